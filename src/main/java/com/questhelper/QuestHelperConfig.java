@@ -26,7 +26,7 @@ package com.questhelper;
 
 import com.questhelper.panel.questorders.QuestOrders;
 import com.questhelper.questhelpers.QuestDetails;
-import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.questinfo.QuestHelperQuest;
 import lombok.Getter;
 import net.runelite.client.config.*;
 import net.runelite.client.util.Text;
@@ -46,7 +46,7 @@ public interface QuestHelperConfig extends Config
 	String QUEST_BACKGROUND_GROUP = "questhelpervars";
 	String QUEST_HELPER_SIDEBAR_ORDER_KEY_START = "quest-sidebar-order-";
 
-	enum QuestOrdering implements Comparator<QuestHelper>
+	enum QuestOrdering implements Comparator<QuestHelperQuest>
 	{
 		/**
 		 * Sort quests in alphabetical order
@@ -74,47 +74,47 @@ public interface QuestHelperConfig extends Config
 		QUEST_POINTS_ASC(QuestOrders.sortByQuestPointRewardAscending(), QuestFilter.QUEST),
 		QUEST_POINTS_DESC(QuestOrders.sortByQuestPointRewardDescending(), QuestFilter.QUEST);
 
-		private final Comparator<QuestHelper> comparator;
+		private final Comparator<QuestHelperQuest> comparator;
 		@Getter
 		private final QuestFilter[] sections;
 
-		QuestOrdering(Comparator<QuestHelper> comparator, QuestFilter... sections)
+		QuestOrdering(Comparator<QuestHelperQuest> comparator, QuestFilter... sections)
 		{
 			this.comparator = comparator;
 			this.sections = sections;
 
 		}
 
-		public List<QuestHelper> sort(Collection<QuestHelper> list)
+		public List<QuestHelperQuest> sort(Collection<QuestHelperQuest> list)
 		{
 			return list.stream().sorted(this).collect(Collectors.toList());
 		}
 
 		@Override
-		public int compare(QuestHelper o1, QuestHelper o2)
+		public int compare(QuestHelperQuest o1, QuestHelperQuest o2)
 		{
 			return comparator.compare(o1, o2);
 		}
 	}
 
-	enum QuestFilter implements Predicate<QuestHelper>
+	enum QuestFilter implements Predicate<QuestHelperQuest>
 	{
 		/**
 		 * Show all quests
 		 */
 		SHOW_ALL(q -> true),
 		/**
-		 * Show quests where the client meets the quest requirements
+		 * Show quests where the client meets the quest requirements. This needs every quest's helper to be created.
 		 */
-		SHOW_MEETS_REQS(QuestHelper::clientMeetsRequirements),
+		SHOW_MEETS_REQS(q -> q.getQuestHelper().clientMeetsRequirements()),
 		/**
 		 * Show all except generic helpers
 		 */
 		OPTIMAL("Optimal ordering",
-			q -> q.getQuest().getQuestType() == QuestDetails.Type.P2P ||
-				q.getQuest().getQuestType() == QuestDetails.Type.F2P ||
-				q.getQuest().getQuestType() == QuestDetails.Type.MINIQUEST ||
-				q.getQuest().getQuestType() == QuestDetails.Type.ACHIEVEMENT_DIARY,
+			q -> q.getQuestType() == QuestDetails.Type.P2P ||
+				q.getQuestType() == QuestDetails.Type.F2P ||
+				q.getQuestType() == QuestDetails.Type.MINIQUEST ||
+				q.getQuestType() == QuestDetails.Type.ACHIEVEMENT_DIARY,
 			false),
 		/**
 		 * Show all free-to-play quests
@@ -127,8 +127,8 @@ public interface QuestHelperConfig extends Config
 		/**
 		 * Show all quests
 		 */
-		QUEST("Quests", q -> q.getQuest().getQuestType() == QuestDetails.Type.P2P ||
-			q.getQuest().getQuestType() == QuestDetails.Type.F2P),
+		QUEST("Quests", q -> q.getQuestType() == QuestDetails.Type.P2P ||
+			q.getQuestType() == QuestDetails.Type.F2P),
 		/**
 		 * Show all miniquests (all miniquests are members' only)
 		 */
@@ -144,8 +144,8 @@ public interface QuestHelperConfig extends Config
 		/**
 		 * Show all skills
 		 */
-		SKILL_HELPER("Skill helpers", q -> q.getQuest().getQuestType() == QuestDetails.Type.SKILL_P2P ||
-			q.getQuest().getQuestType() == QuestDetails.Type.SKILL_F2P),
+		SKILL_HELPER("Skill helpers", q -> q.getQuestType() == QuestDetails.Type.SKILL_P2P ||
+			q.getQuestType() == QuestDetails.Type.SKILL_F2P),
 		/**
 		 * Show all free-to-play skills
 		 */
@@ -155,31 +155,31 @@ public interface QuestHelperConfig extends Config
 		 */
 		SKILL_MEMBERS(QuestDetails.Type.SKILL_P2P),
 
-		PLAYER_MADE_QUESTS("Player-made quests", q -> q.getQuest().getQuestType() == QuestDetails.Type.PLAYER_QUEST);
+		PLAYER_MADE_QUESTS("Player-made quests", q -> q.getQuestType() == QuestDetails.Type.PLAYER_QUEST);
 
 
-		private final Predicate<QuestHelper> predicate;
+		private final Predicate<QuestHelperQuest> predicate;
 
 		@Getter
 		private final String displayName;
 
 		private final boolean shouldDisplay;
 
-		QuestFilter(Predicate<QuestHelper> predicate)
+		QuestFilter(Predicate<QuestHelperQuest> predicate)
 		{
 			this.predicate = predicate;
 			this.displayName = Text.titleCase(this);
 			this.shouldDisplay = true;
 		}
 
-		QuestFilter(String displayName, Predicate<QuestHelper> predicate)
+		QuestFilter(String displayName, Predicate<QuestHelperQuest> predicate)
 		{
 			this.predicate = predicate;
 			this.displayName = displayName;
 			this.shouldDisplay = true;
 		}
 
-		QuestFilter(String displayName, Predicate<QuestHelper> predicate, boolean shouldDisplay)
+		QuestFilter(String displayName, Predicate<QuestHelperQuest> predicate, boolean shouldDisplay)
 		{
 			this.predicate = predicate;
 			this.displayName = displayName;
@@ -187,15 +187,15 @@ public interface QuestHelperConfig extends Config
 		}
 
 		@Override
-		public boolean test(QuestHelper quest)
+		public boolean test(QuestHelperQuest quest)
 		{
 			return predicate.test(quest);
 		}
 
-		public List<QuestHelper> test(Collection<QuestHelper> helpers)
+		public List<QuestHelperQuest> test(Collection<QuestHelperQuest> quests)
 		{
 
-			return helpers.stream().filter(this).collect(Collectors.toList());
+			return quests.stream().filter(this).collect(Collectors.toList());
 		}
 
 		public static QuestFilter[] displayFilters()
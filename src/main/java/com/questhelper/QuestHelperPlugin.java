@@ -35,12 +35,15 @@ import com.questhelper.managers.*;
 import com.questhelper.panel.QuestHelperPanel;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.questinfo.QuestStateCache;
+import com.questhelper.requirements.RequirementCache;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.runeliteobjects.Cheerer;
 import com.questhelper.runeliteobjects.GlobalFakeObjects;
 import com.questhelper.runeliteobjects.RuneliteConfigSetter;
 import com.questhelper.runeliteobjects.extendedruneliteobjects.RuneliteObjectManager;
 import com.questhelper.statemanagement.PlayerStateManager;
+import com.questhelper.steps.tools.QuestPerspective;
 import com.questhelper.tools.Icon;
 import com.questhelper.util.worldmap.WorldMapAreaManager;
 import lombok.Getter;
@@ -171,6 +174,8 @@ public class QuestHelperPlugin extends Plugin
 
 	boolean profileChanged;
 
+	private int runeliteStateVersion;
+
 	private final Collection<String> configEvents = Arrays.asList("orderListBy", "filterListBy", "questDifficulty", "showCompletedQuests");
 	private final Collection<String> configItemEvents = Arrays.asList("highlightNeededQuestItems", "highlightNeededMiniquestItems", "highlightNeededAchievementDiaryItems");
 
@@ -184,8 +189,8 @@ public class QuestHelperPlugin extends Plugin
 	protected void startUp() throws IOException
 	{
 		questBankManager.startUp(injector, eventBus);
-		QuestContainerManager.getBankData().setSpecialMethodToObtainItems(() -> questBankManager.getBankItems().toArray(new Item[0]));
-		QuestContainerManager.getGroupStorageData().setSpecialMethodToObtainItems(() -> questBankManager.getGroupBankItems().toArray(new Item[0]));
+		QuestContainerManager.getBankData().setSpecialMethodToObtainItems(questBankManager::getBankItemsSnapshot, questBankManager::getBankVersion);
+		QuestContainerManager.getGroupStorageData().setSpecialMethodToObtainItems(questBankManager::getGroupBankItemsSnapshot, questBankManager::getGroupBankVersion);
 		eventBus.register(worldMapAreaManager);
 
 		injector.injectMembers(playerStateManager);
@@ -215,7 +220,9 @@ public class QuestHelperPlugin extends Plugin
 		clientThread.invokeAtTickEnd(() -> {
 			if (client.getGameState() == GameState.LOGGED_IN)
 			{
-				questManager.setupRequirements();
+				// The scene was loaded before the plugin started, so its spawn events were missed
+				SceneObjectIndex.rebuild(client);
+				NpcIndex.rebuild(client);
 				questManager.setupOnLogin();
 				GlobalFakeObjects.createNpcs(client, runeliteObjectManager, configManager, config);
 			}
@@ -226,6 +233,11 @@ public class QuestHelperPlugin extends Plugin
 	protected void shutDown()
 	{
 		runeliteObjectManager.shutDown();
+		RuneliteStateStore.flush(configManager);
+		SceneObjectIndex.clear();
+		NpcIndex.clear();
+		QuestPerspective.invalidateInstanceChunks();
+		QuestStateCache.invalidate();
 
 		eventBus.unregister(playerStateManager);
 		eventBus.unregister(runeliteObjectManager);
@@ -247,11 +259,23 @@ public class QuestHelperPlugin extends Plugin
 	{
 		questBankManager.loadInitialStateFromConfig(client);
 		questManager.updateQuestState();
+		RuneliteStateStore.flushIfDue(configManager);
+		// Values set through the store only fire a ConfigChanged once flushed, so refresh the quest list for them now
+		int stateVersion = RuneliteStateStore.getVersion();
+		if (stateVersion != runeliteStateVersion)
+		{
+			runeliteStateVersion = stateVersion;
+			questManager.updateQuestList();
+		}
+		questOverlayManager.invalidateOverlay();
 	}
 
 	@Subscribe
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
+		RequirementCache.invalidate();
+		questOverlayManager.invalidateOverlay();
+
 		Item[] items = event.getItemContainer().getItems();
 		if (event.getContainerId() == InventoryID.BANK)
 		{
@@ -293,8 +317,37 @@ public class QuestHelperPlugin extends Plugin
 	@Subscribe
 	public void onGameStateChanged(final GameStateChanged event)
 	{
+		RequirementCache.invalidate();
+
 		final GameState state = event.getGameState();
 
+		if (state == GameState.LOGGED_IN || state == GameState.HOPPING || state == GameState.LOGIN_SCREEN)
+		{
+			QuestStateCache.invalidate();
+		}
+
+		// Objects from the new scene are added again through their spawn events
+		if (state == GameState.LOADING || state == GameState.HOPPING || state == GameState.LOGIN_SCREEN)
+		{
+			SceneObjectIndex.clear();
+			QuestPerspective.invalidateInstanceChunks();
+		}
+
+		// NPCs persist through a scene load, but the index is rebuilt afterwards in case any were missed
+		if (state == GameState.LOGGED_IN)
+		{
+			NpcIndex.rebuild(client);
+		}
+		else if (state == GameState.HOPPING || state == GameState.LOGIN_SCREEN)
+		{
+			NpcIndex.clear();
+		}
+
+		if (state == GameState.HOPPING || state == GameState.LOGIN_SCREEN)
+		{
+			RuneliteStateStore.flush(configManager);
+		}
+
 		if (state == GameState.LOGIN_SCREEN)
 		{
 			questBankManager.saveBankToConfig();
@@ -312,22 +365,89 @@ public class QuestHelperPlugin extends Plugin
 			newVersionManager.updateChatWithNotificationIfNewVersion();
 			questBankManager.setUnknownInitialState();
 			potionStorage.updateCachedPotions = true;
-			clientThread.invokeAtTickEnd(() -> {
-				questManager.setupRequirements();
-				questManager.setupOnLogin();
-			});
+			clientThread.invokeAtTickEnd(questManager::setupOnLogin);
 		}
 	}
 
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		SceneObjectIndex.add(client, event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		SceneObjectIndex.remove(event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		SceneObjectIndex.add(client, event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		SceneObjectIndex.remove(event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		SceneObjectIndex.add(client, event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		SceneObjectIndex.remove(event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		SceneObjectIndex.add(client, event.getWallObject());
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		SceneObjectIndex.remove(event.getWallObject());
+	}
+
+	@Subscribe
+	public void onNpcSpawned(NpcSpawned event)
+	{
+		NpcIndex.add(event.getNpc());
+	}
+
+	@Subscribe
+	public void onNpcDespawned(NpcDespawned event)
+	{
+		NpcIndex.remove(event.getNpc());
+	}
+
+	@Subscribe
+	public void onNpcChanged(NpcChanged event)
+	{
+		NpcIndex.update(event.getNpc());
+	}
+
 	@Subscribe
 	private void onRuneScapeProfileChanged(RuneScapeProfileChanged ev)
 	{
+		RuneliteStateStore.onProfileChanged(configManager);
 		profileChanged = true;
 	}
 
 	@Subscribe
 	public void onVarbitChanged(VarbitChanged event)
 	{
+		RequirementCache.invalidate();
+		QuestStateCache.onVarbitChanged(event);
+
 		if (!(client.getGameState() == GameState.LOGGED_IN))
 		{
 			return;
@@ -342,13 +462,16 @@ public class QuestHelperPlugin extends Plugin
 		}
 
 		QuestContainerManager.updateRunePouch(client, event.getVarbitId());
-		questManager.handleVarbitChanged();
+		questManager.handleVarbitChanged(event);
 	}
 
 
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		RequirementCache.invalidate();
+		RuneliteStateStore.onConfigChanged(event);
+		questOverlayManager.invalidateOverlay();
 		questManager.handleConfigChanged();
 
 		if (event.getGroup().equals(QuestHelperConfig.QUEST_BACKGROUND_GROUP))
@@ -451,6 +574,7 @@ public class QuestHelperPlugin extends Plugin
 	private void onClientShutdown(ClientShutdown e)
 	{
 		questBankManager.saveBankToConfig();
+		RuneliteStateStore.flush(configManager);
 	}
 
 	public void refreshBank()
@@ -511,6 +635,8 @@ public class QuestHelperPlugin extends Plugin
 	@Subscribe
 	public void onChatMessage(ChatMessage chatMessage)
 	{
+		RequirementCache.invalidate();
+
 		if (config.showFan() && chatMessage.getType() == ChatMessageType.GAMEMESSAGE)
 		{
 			if (chatMessage.getMessage().contains("Congratulations! Quest complete!") ||
@@ -539,24 +665,19 @@ public class QuestHelperPlugin extends Plugin
 
 	private void scanAndInstantiate()
 	{
-		for (QuestHelperQuest qhq : QuestHelperQuest.values())
-		{
-			instantiate(qhq);
-		}
+		// Helpers are created the first time they're used, and initialized through this
+		QuestHelperQuest.setHelperInitializer(this::instantiate);
 	}
 
-	private void instantiate(QuestHelperQuest quest)
+	private void instantiate(QuestHelperQuest quest, QuestHelper questHelper)
 	{
-		QuestHelper questHelper = quest.getQuestHelper();
-
 		Module questModule = (Binder binder) ->
 		{
 			binder.bind(QuestHelper.class).toInstance(questHelper);
 			binder.install(questHelper);
 		};
-		Injector questInjector = RuneLite.getInjector().createChildInjector(questModule);
 		injector.injectMembers(questHelper);
-		questHelper.setInjector(questInjector);
+		questHelper.setInjectorFactory(() -> RuneLite.getInjector().createChildInjector(questModule));
 		questHelper.setQuest(quest);
 		questHelper.setConfig(config);
 		questHelper.setQuestHelperPlugin(this);
@@ -29,6 +29,7 @@ import com.google.gson.JsonSyntaxException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.questhelper.QuestHelperConfig;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
@@ -52,6 +53,15 @@ public class QuestBank
 	private static final String CONFIG_GROUP = QuestHelperConfig.QUEST_HELPER_GROUP;
 
 	private List<Item> bankItems;
+
+	// Immutable copy of bankItems, replaced along with it so readers can share it without copying
+	private Item[] bankItemsSnapshot;
+
+	/**
+	 * Incremented each time the bank items are replaced.
+	 */
+	@Getter
+	private int version;
 	private final QuestBankData questBankData;
 	private String rsProfileKey;
 	private RuneScapeProfileType worldType;
@@ -66,7 +76,7 @@ public class QuestBank
 		this.client = client;
 		this.gson = gson;
 		this.questBankData = new QuestBankData();
-		this.bankItems = new ArrayList<>();
+		setBankItems(new ArrayList<>());
 	}
 
 	public List<Item> getBankItems()
@@ -74,10 +84,28 @@ public class QuestBank
 		return bankItems;
 	}
 
+	/**
+	 * Get the bank items as an array which is shared between callers until the bank next changes.
+	 * The array must not be modified, use {@link #getVersion()} to detect when it has been replaced.
+	 *
+	 * @return the current snapshot of the bank items
+	 */
+	public Item[] getBankItemsSnapshot()
+	{
+		return bankItemsSnapshot;
+	}
+
+	private void setBankItems(List<Item> items)
+	{
+		bankItems = items;
+		bankItemsSnapshot = items.toArray(new Item[0]);
+		version++;
+	}
+
 	public void updateLocalBank(Item[] items)
 	{
 		questBankData.set(items);
-		bankItems = questBankData.getAsList();
+		setBankItems(questBankData.getAsList());
 	}
 
 	public void emptyState()
@@ -85,7 +113,7 @@ public class QuestBank
 		rsProfileKey = null;
 		worldType = null;
 		questBankData.setEmpty();
-		bankItems = new ArrayList<>();
+		setBankItems(new ArrayList<>());
 	}
 
 	public void loadState()
@@ -121,7 +149,7 @@ public class QuestBank
 			questBankData.setIdAndQuantity(new int[0]);
 			saveBankToConfig();
 		}
-		bankItems = questBankData.getAsList();
+		setBankItems(questBankData.getAsList());
 	}
 
 	public void saveBankToConfig()
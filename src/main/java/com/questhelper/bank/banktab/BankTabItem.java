@@ -46,9 +46,6 @@ public class BankTabItem
 	@Getter
 	private final Integer displayID;
 
-	@Getter
-	private final String details;
-
 	@Getter
 	private final ItemRequirement itemRequirement;
 
@@ -57,7 +54,6 @@ public class BankTabItem
 		this.quantity = item.getQuantity();
 		this.text = item.getName();
 		this.itemIDs = Collections.singletonList(displayID);
-		this.details = item.getTooltip();
 		this.displayID = displayID;
 		this.itemRequirement = item;
 	}
@@ -67,8 +63,16 @@ public class BankTabItem
 		this.quantity = item.getQuantity();
 		this.text = item.getName();
 		this.itemIDs = Collections.singletonList(item.getId());
-		this.details = item.getTooltip();
 		this.displayID = item.getId();
 		this.itemRequirement = item;
 	}
+
+	/**
+	 * Read from the requirement when shown, as the tooltip can depend on where the items are held, which the cached bank
+	 * tab layout isn't built again for.
+	 */
+	public String getDetails()
+	{
+		return itemRequirement.getTooltip();
+	}
 }
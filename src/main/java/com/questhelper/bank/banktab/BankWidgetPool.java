@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.bank.banktab;
+
+import net.runelite.api.widgets.Widget;
+import net.runelite.api.widgets.WidgetType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the widgets added to the bank item container for the quest bank tab, so each layout rebinds the widgets of
+ * the previous one instead of creating them again. Widgets which a layout doesn't use are hidden until needed.
+ */
+public class BankWidgetPool
+{
+	private final List<Widget> textWidgets = new ArrayList<>();
+	private final List<Widget> graphicWidgets = new ArrayList<>();
+	private int textWidgetsUsed;
+	private int graphicWidgetsUsed;
+
+	private Widget container;
+
+	/**
+	 * Start a layout in the container. The pooled widgets are forgotten if they are no longer its children, such as
+	 * after the bank has been closed.
+	 *
+	 * @param container the widget the pooled widgets are children of
+	 */
+	public void begin(Widget container)
+	{
+		if (container != this.container || !isAttached())
+		{
+			clear();
+			this.container = container;
+		}
+		textWidgetsUsed = 0;
+		graphicWidgetsUsed = 0;
+	}
+
+	/**
+	 * Get a visible widget for the layout, reusing one from a previous layout if there is one left.
+	 *
+	 * @param type either {@link WidgetType#TEXT} or {@link WidgetType#GRAPHIC}
+	 * @return the widget, whose properties other than being visible are left from its last use
+	 */
+	public Widget obtain(int type)
+	{
+		List<Widget> pool = type == WidgetType.TEXT ? textWidgets : graphicWidgets;
+		int index = type == WidgetType.TEXT ? textWidgetsUsed++ : graphicWidgetsUsed++;
+		if (index < pool.size())
+		{
+			Widget widget = pool.get(index);
+			if (widget.isSelfHidden())
+			{
+				widget.setHidden(false);
+				widget.revalidate();
+			}
+			return widget;
+		}
+
+		Widget widget = container.createChild(-1, type);
+		pool.add(widget);
+		return widget;
+	}
+
+	/**
+	 * Finish a layout, hiding the pooled widgets it didn't use.
+	 */
+	public void end()
+	{
+		hideUnused(textWidgets, textWidgetsUsed);
+		hideUnused(graphicWidgets, graphicWidgetsUsed);
+	}
+
+	public boolean isEmpty()
+	{
+		return textWidgets.isEmpty() && graphicWidgets.isEmpty();
+	}
+
+	public Widget getContainer()
+	{
+		return container;
+	}
+
+	/**
+	 * Forget all pooled widgets, for when they have been removed from the container.
+	 */
+	public void clear()
+	{
+		textWidgets.clear();
+		graphicWidgets.clear();
+		container = null;
+	}
+
+	private boolean isAttached()
+	{
+		if (container == null)
+		{
+			return false;
+		}
+
+		Widget[] children = container.getChildren();
+		return isAttached(textWidgets, children) && isAttached(graphicWidgets, children);
+	}
+
+	private static boolean isAttached(List<Widget> widgets, Widget[] children)
+	{
+		for (Widget widget : widgets)
+		{
+			int index = widget.getIndex();
+			if (children == null || index < 0 || index >= children.length || children[index] != widget)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void hideUnused(List<Widget> widgets, int used)
+	{
+		for (int i = used; i < widgets.size(); i++)
+		{
+			widgets.get(i).setHidden(true);
+		}
+	}
+}
@@ -84,7 +84,7 @@ public class QuestBankTab
 	private static final int CROSS_SPRITE_ID = 1216;
 	private static final int TICK_SPRITE_ID = 1217;
 
-	private final ArrayList<Widget> addedWidgets = new ArrayList<>();
+	private final BankWidgetPool widgetPool = new BankWidgetPool();
 
 	@Inject
 	private ItemManager itemManager;
@@ -322,14 +322,13 @@ public class QuestBankTab
 	{
 		if (originalContainerChildren == -1) return;
 
-		if (addedWidgets.isEmpty()) return;
-		Widget parent = addedWidgets.get(0).getParent();
+		if (widgetPool.isEmpty()) return;
+		Widget parent = widgetPool.getContainer();
+		widgetPool.clear();
 		if (parent == null) return;
 		if (parent.getChildren() == null) return;
 		parent.setChildren(Arrays.copyOf(parent.getChildren(), originalContainerChildren));
 		parent.revalidate();
-
-		addedWidgets.clear();
 	}
 
 	@Subscribe
@@ -358,10 +357,10 @@ public class QuestBankTab
 			return;
 		}
 
-		removeAddedWidgets();
-
+		// The quest tab keeps its added widgets between layouts to rebind them, so they're only removed for other tabs
 		if (!questBankTabInterface.isQuestTabActive())
 		{
+			removeAddedWidgets();
 			return;
 		}
 
@@ -373,33 +372,40 @@ public class QuestBankTab
 		Widget[] children = itemContainer.getChildren();
 		if (children != null && originalContainerChildren == -1) originalContainerChildren = children.length;
 
-		Widget[] containerChildren = itemContainer.getDynamicChildren();
 		clientThread.invokeAtTickEnd(() -> {
 			// Desired extra functionality:
 			// X - Recommended items also included in section
 			// X - Expand option to see alternative items for a recommended item
-			List<BankTabItems> tabLayout = questHelper.getPluginBankTagItemsForSections();
+			List<BankTabItems> tabLayout = questHelperBankTagService.getBankTabLayout();
 
 			if (tabLayout != null)
 			{
-				sortBankTabItems(itemContainer, containerChildren, tabLayout);
+				sortBankTabItems(itemContainer, tabLayout);
 			}
 		});
 	}
 
-	private void sortBankTabItems(Widget itemContainer, Widget[] containerChildren, List<BankTabItems> newLayout)
+	private void sortBankTabItems(Widget itemContainer, List<BankTabItems> newLayout)
 	{
 		int totalSectionsHeight = 0;
 
 		widgetItems.clear();
+		widgetPool.begin(itemContainer);
 
 		// Hide all widgets as we'll be making our own using them
-		hideBankWidgets(itemContainer, containerChildren);
+		hideBankWidgets(itemContainer);
 
 
 		List<Integer> itemList = new ArrayList<>();
-		for (Widget itemWidget : containerChildren)
+		// Only the bank's own children, as the pooled widgets of the last layout come after them
+		for (int i = 0; i < originalContainerChildren; i++)
 		{
+			Widget itemWidget = itemContainer.getChild(i);
+			if (itemWidget == null)
+			{
+				continue;
+			}
+
 			if (itemWidget.getSpriteId() == SpriteID.RESIZEABLE_MODE_SIDE_PANEL_BACKGROUND
 				|| itemWidget.getText().contains("Tab"))
 			{
@@ -426,28 +432,24 @@ public class QuestBankTab
 		// We add item texts after all items are added so they always overlay
 		for (BankText bankText : bankItemTexts)
 		{
-			Widget realItemQuantityText = createText(itemContainer,
-				bankText.text,
+			createText(bankText.text,
 				Color.WHITE.getRGB(),
 				ITEM_HORIZONTAL_SPACING,
 				TEXT_HEIGHT - 3,
 				bankText.x,
 				bankText.y);
 
-			addedWidgets.add(realItemQuantityText);
-
 			if (bankText.spriteID != -1)
 			{
-				Widget realItemInInventorySprite = createIcon(itemContainer,
-					bankText.spriteID,
+				createIcon(bankText.spriteID,
 						bankText.spriteX,
 					bankText.spriteY
 				);
-				addedWidgets.add(realItemInInventorySprite);
 			}
 
 			currentWidgetToUse = 0;
 		}
+		widgetPool.end();
 
 		final Widget bankItemContainer = client.getWidget(InterfaceID.Bankmain.ITEMS);
 		if (bankItemContainer == null) return;
@@ -498,9 +500,9 @@ public class QuestBankTab
 		newLayout.add(leftoverTab);
 	}
 
-	private void hideBankWidgets(Widget itemContainer, Widget[] containerChildren)
+	private void hideBankWidgets(Widget itemContainer)
 	{
-		for (int i = 0; i < containerChildren.length; ++i)
+		for (int i = 0; i < originalContainerChildren; ++i)
 		{
 			Widget widget = itemContainer.getChild(i);
 			if (widget == null) continue;
@@ -690,7 +692,8 @@ public class QuestBankTab
 				continue;
 			}
 
-			Widget c = bankItemContainer.getChild(currentWidgetToUse);
+			// Children past the bank's own are the pooled section widgets, which mustn't be turned into items
+			Widget c = currentWidgetToUse < originalContainerChildren ? bankItemContainer.getChild(currentWidgetToUse) : null;
 			if (c == null)
 			{
 				return totalSectionsHeight;
@@ -749,17 +752,17 @@ public class QuestBankTab
 
 	private int addSubSectionHeader(Widget itemContainer, String title, int totalSectionsHeight)
 	{
-		addedWidgets.add(createText(itemContainer, title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
-			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING));
+		createText(title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
+			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING);
 
 		return totalSectionsHeight + LINE_VERTICAL_SPACING + TEXT_HEIGHT;
 	}
 
 	private int addSectionHeader(Widget itemContainer, String title, int totalSectionsHeight)
 	{
-		addedWidgets.add(createGraphic(itemContainer, SpriteID.RESIZEABLE_MODE_SIDE_PANEL_BACKGROUND, ITEM_ROW_START, totalSectionsHeight));
-		addedWidgets.add(createText(itemContainer, title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
-			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING));
+		createGraphic(SpriteID.RESIZEABLE_MODE_SIDE_PANEL_BACKGROUND, ITEM_ROW_START, totalSectionsHeight);
+		createText(title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
+			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING);
 
 		return totalSectionsHeight + LINE_VERTICAL_SPACING + TEXT_HEIGHT;
 	}
@@ -810,55 +813,70 @@ public class QuestBankTab
 				.build());
 	}
 
-	private Widget createGraphic(Widget container, int spriteId, int x, int y)
+	private Widget createGraphic(int spriteId, int x, int y)
 	{
 		final int WIDTH = ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING;
-		Widget widget = container.createChild(-1, WidgetType.GRAPHIC);
-		widget.setOriginalWidth(WIDTH);
-		widget.setOriginalHeight(QuestBankTab.LINE_HEIGHT);
-		widget.setOriginalX(x);
-		widget.setOriginalY(y);
+		Widget widget = widgetPool.obtain(WidgetType.GRAPHIC);
+		placeWidget(widget, WIDTH, QuestBankTab.LINE_HEIGHT, x, y);
 
-		widget.setSpriteId(spriteId);
-
-		widget.revalidate();
+		if (widget.getSpriteId() != spriteId)
+		{
+			widget.setSpriteId(spriteId);
+		}
 
 		return widget;
 	}
 
-	private Widget createText(Widget container, String text, int color, int width, int height, int x, int y)
+	private Widget createText(String text, int color, int width, int height, int x, int y)
 	{
-		Widget widget = container.createChild(-1, WidgetType.TEXT);
+		Widget widget = widgetPool.obtain(WidgetType.TEXT);
+		placeWidget(widget, width, height, x, y);
 
-		widget.setOriginalWidth(width);
-		widget.setOriginalHeight(height);
-		widget.setOriginalX(x);
-		widget.setOriginalY(y);
-
-		widget.setText(text);
-		widget.setFontId(FontID.PLAIN_11);
-		widget.setTextColor(color);
+		// Pooled widgets keep their last values, so only what has changed is set
+		if (!text.equals(widget.getText()))
+		{
+			widget.setText(text);
+		}
+		if (widget.getFontId() != FontID.PLAIN_11)
+		{
+			widget.setFontId(FontID.PLAIN_11);
+		}
+		if (widget.getTextColor() != color)
+		{
+			widget.setTextColor(color);
+		}
 		widget.setTextShadowed(true);
 
-		widget.revalidate();
-
 		return widget;
 	}
 
-	private Widget createIcon(Widget container, int spriteID, int x, int y)
+	private Widget createIcon(int spriteID, int x, int y)
 	{
 		final int WIDTH = 10;
 		final int HEIGHT = 10;
-		Widget widget = container.createChild(-1, WidgetType.GRAPHIC);
-		widget.setOriginalWidth(WIDTH);
-		widget.setOriginalHeight(HEIGHT);
-		widget.setOriginalX(x);
-		widget.setOriginalY(y);
+		Widget widget = widgetPool.obtain(WidgetType.GRAPHIC);
+		placeWidget(widget, WIDTH, HEIGHT, x, y);
 
-		widget.setSpriteId(spriteID);
-
-		widget.revalidate();
+		if (widget.getSpriteId() != spriteID)
+		{
+			widget.setSpriteId(spriteID);
+		}
 
 		return widget;
 	}
+
+	private void placeWidget(Widget widget, int width, int height, int x, int y)
+	{
+		if (widget.getOriginalWidth() == width && widget.getOriginalHeight() == height
+			&& widget.getOriginalX() == x && widget.getOriginalY() == y)
+		{
+			return;
+		}
+
+		widget.setOriginalWidth(width);
+		widget.setOriginalHeight(height);
+		widget.setOriginalX(x);
+		widget.setOriginalY(y);
+		widget.revalidate();
+	}
 }
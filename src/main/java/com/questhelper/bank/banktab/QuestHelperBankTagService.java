@@ -25,7 +25,11 @@
 package com.questhelper.bank.banktab;
 
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.ItemAndLastUpdated;
+import com.questhelper.managers.QuestContainerManager;
 import com.questhelper.panel.PanelDetails;
+import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.requirements.Requirement;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.requirements.item.ItemRequirements;
 import com.questhelper.requirements.item.KeyringRequirement;
@@ -36,6 +40,7 @@ import net.runelite.api.gameval.ItemID;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -58,6 +63,16 @@ public class QuestHelperBankTagService
 
 	private final String RECOMMENDED_TAB_NAME = "Recommended items";
 
+	// The panels of the selected quest, which are built again each time the quest is asked for them
+	private QuestHelper panelsQuest;
+	private List<PanelDetails> panels;
+
+	// The layout of the quest bank tab, reused until anything it was built from changes
+	private List<BankTabItems> cachedLayout;
+	private List<PanelDetails> cachedLayoutPanels;
+	private LayoutKey cachedLayoutKey = new LayoutKey();
+	private LayoutKey layoutKey = new LayoutKey();
+
 	public ArrayList<Integer> itemsToTag()
 	{
 		if (client.getTickCount() <= lastTickUpdated)
@@ -92,11 +107,184 @@ public class QuestHelperBankTagService
 		return taggedItemsForBank;
 	}
 
+	/**
+	 * Drop everything cached for the selected quest, as a quest which is started again builds new panels.
+	 */
+	public void invalidateQuest()
+	{
+		cachedLayout = null;
+		cachedLayoutPanels = null;
+		panelsQuest = null;
+		panels = null;
+	}
+
+	/**
+	 * Get the sections of items to show in the quest bank tab. The layout is only built again when something it was
+	 * built from changes, such as which sections and items are shown, the alternative chosen for an item or which of an
+	 * item's ids is in the bank, so rebuilding the bank for scrolling, searching or withdrawing reuses it.
+	 *
+	 * @return a new list of the sections, which can be added to
+	 */
+	public List<BankTabItems> getBankTabLayout()
+	{
+		List<PanelDetails> questSections = getPanels(plugin.getSelectedQuest());
+		buildLayoutKey(layoutKey, questSections);
+		if (cachedLayout == null || questSections != cachedLayoutPanels || !layoutKey.matches(cachedLayoutKey))
+		{
+			cachedLayout = getPluginBankTagItemsForSections(false);
+			cachedLayoutPanels = questSections;
+
+			LayoutKey previousKey = cachedLayoutKey;
+			cachedLayoutKey = layoutKey;
+			layoutKey = previousKey;
+		}
+
+		return new ArrayList<>(cachedLayout);
+	}
+
+	private List<PanelDetails> getPanels(QuestHelper quest)
+	{
+		if (quest != panelsQuest)
+		{
+			panels = quest == null ? null : quest.getPanels();
+			panelsQuest = quest;
+		}
+		return panels;
+	}
+
+	/**
+	 * Walk the same requirements as {@link #getPluginBankTagItemsForSections(boolean)}, recording everything which
+	 * decides what the layout contains without building it. Requirements are recorded by what's shown for them rather
+	 * than by instance, as some quests create their lists of items each time they're asked for them.
+	 */
+	private void buildLayoutKey(LayoutKey key, List<PanelDetails> questSections)
+	{
+		key.clear();
+		if (questSections == null || questSections.isEmpty())
+		{
+			return;
+		}
+
+		QuestHelper quest = plugin.getSelectedQuest();
+
+		addRequirementsToKey(key, quest.getItemRecommended());
+		for (PanelDetails questSection : questSections)
+		{
+			boolean shown = questSection.getHideCondition() == null || !questSection.getHideCondition().check(plugin.getClient());
+			key.add(shown);
+			if (shown)
+			{
+				addRequirementsToKey(key, questSection.getRequirements());
+				addRequirementsToKey(key, questSection.getRecommended());
+			}
+		}
+		// Only used if no section has items, but it's cheaper to always include than to work that out here
+		addRequirementsToKey(key, quest.getItemRequirements());
+	}
+
+	private void addRequirementsToKey(LayoutKey key, List<? extends Requirement> requirements)
+	{
+		if (requirements == null)
+		{
+			key.add(-1);
+			return;
+		}
+
+		key.add(requirements.size());
+		for (Requirement requirement : requirements)
+		{
+			if (!(requirement instanceof ItemRequirement))
+			{
+				continue;
+			}
+			ItemRequirement item = (ItemRequirement) requirement;
+			boolean shown = item.shouldDisplayText(plugin.getClient());
+			key.add(shown);
+			if (shown)
+			{
+				addItemToKey(key, item);
+			}
+		}
+	}
+
+	private void addItemToKey(LayoutKey key, ItemRequirement itemRequirement)
+	{
+		key.add(Objects.hashCode(itemRequirement.getName()));
+		key.add(itemRequirement.getQuantity());
+
+		if (itemRequirement instanceof ItemRequirements)
+		{
+			ItemRequirements itemRequirements = (ItemRequirements) itemRequirement;
+			LogicType logicType = itemRequirements.getLogicType();
+			ArrayList<ItemRequirement> requirements = itemRequirements.getItemRequirements();
+			key.add(logicType.ordinal());
+			key.add(requirements.size());
+			if (logicType == LogicType.AND)
+			{
+				for (ItemRequirement requirement : requirements)
+				{
+					addItemToKey(key, requirement);
+				}
+			}
+			if (logicType == LogicType.OR)
+			{
+				ItemRequirement match = null;
+				ItemRequirement firstShown = null;
+				for (ItemRequirement requirement : requirements)
+				{
+					boolean shown = requirement.shouldDisplayText(plugin.getClient());
+					key.add(shown);
+					if (!shown)
+					{
+						continue;
+					}
+					if (firstShown == null)
+					{
+						firstShown = requirement;
+					}
+					if (requirement.checkWithAllContainers())
+					{
+						match = requirement;
+						break;
+					}
+				}
+
+				if (match == null)
+				{
+					match = firstShown == null ? requirements.get(0) : firstShown;
+				}
+				addItemToKey(key, match);
+			}
+		}
+		else if (itemRequirement instanceof KeyringRequirement)
+		{
+			boolean hasKeyOnKeyRing = ((KeyringRequirement) itemRequirement).hasKeyOnKeyRing();
+			key.add(hasKeyOnKeyRing);
+			key.add(getDisplayId(itemRequirement));
+			key.add(hasKeyOnKeyRing && hasItemInBankOrPotionStorage(ItemID.FAVOUR_KEY_RING));
+		}
+		else
+		{
+			Integer displayItemId = itemRequirement.getDisplayItemId();
+			key.add(displayItemId == null ? Integer.MIN_VALUE : displayItemId);
+			int[] ids = itemRequirement.getDistinctIds();
+			key.add(ids.length);
+			for (int id : ids)
+			{
+				key.add(id);
+			}
+			if (isShownInBankTab(itemRequirement))
+			{
+				key.add(getDisplayId(itemRequirement));
+			}
+		}
+	}
+
 	public ArrayList<BankTabItems> getPluginBankTagItemsForSections(boolean onlyGetMissingItems)
 	{
 		ArrayList<BankTabItems> newList = new ArrayList<>();
 
-		List<PanelDetails> questSections = plugin.getSelectedQuest().getPanels();
+		List<PanelDetails> questSections = getPanels(plugin.getSelectedQuest());
 
 		if (questSections == null || questSections.isEmpty())
 		{
@@ -232,35 +420,101 @@ public class QuestHelperBankTagService
 		}
 		else
 		{
-			if (itemRequirement.getDisplayItemId() != null || !itemRequirement.getDisplayItemIds().contains(-1))
+			if (isShownInBankTab(itemRequirement))
 			{
 				pluginItems.add(makeBankTabItem(realItem));
 			}
 		}
 	}
 
+	private boolean isShownInBankTab(ItemRequirement itemRequirement)
+	{
+		if (itemRequirement.getDisplayItemId() != null)
+		{
+			return true;
+		}
+		for (int id : itemRequirement.getDistinctIds())
+		{
+			if (id == -1)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private BankTabItem makeBankTabItem(ItemRequirement item)
 	{
-		List<Integer> itemIds = item.getDisplayItemIds();
-		Integer displayId = itemIds.stream()
-				.filter(this::hasItemInBankOrPotionStorage)
-				.findFirst()
-				.orElse(item.getAllIds().stream()
-						.filter(this::hasItemInBankOrPotionStorage)
-						.findFirst()
-						.orElse(item.getAllIds().get(0))
-				);
-		if (displayId == -1 && item.getDisplayItemId() != -1)
+		return new BankTabItem(item, getDisplayId(item));
+	}
+
+	private int getDisplayId(ItemRequirement item)
+	{
+		Integer displayItemId = item.getDisplayItemId();
+		if (displayItemId != null && hasItemInBankOrPotionStorage(displayItemId))
 		{
-			displayId = item.getDisplayItemId();
+			return displayItemId;
 		}
 
-		return new BankTabItem(item, displayId);
+		int[] ids = item.getDistinctIds();
+		for (int id : ids)
+		{
+			if (hasItemInBankOrPotionStorage(id))
+			{
+				return id;
+			}
+		}
+
+		int displayId = ids[0];
+		if (displayId == -1 && displayItemId != -1)
+		{
+			displayId = displayItemId;
+		}
+		return displayId;
 	}
 
 	public boolean hasItemInBankOrPotionStorage(int itemID)
 	{
-		ItemRequirement tmpReq = new ItemRequirement("tmp", itemID);
-		return tmpReq.checkWithAllContainers();
+		for (ItemAndLastUpdated container : QuestContainerManager.getOrderedContainers())
+		{
+			if (container.getItemCounts().getQuantity(itemID) > 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The values a layout was built from, kept in a reused array as it's built again on every bank rebuild.
+	 */
+	private static class LayoutKey
+	{
+		private int[] values = new int[64];
+		private int size;
+
+		void clear()
+		{
+			size = 0;
+		}
+
+		void add(int value)
+		{
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		void add(boolean value)
+		{
+			add(value ? 1 : 0);
+		}
+
+		boolean matches(LayoutKey other)
+		{
+			return Arrays.equals(values, 0, size, other.values, 0, other.size);
+		}
 	}
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.config;
+
+import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.player.SkillRequirement;
+import com.questhelper.requirements.quest.QuestRequirement;
+import com.questhelper.rewards.ExperienceReward;
+import lombok.AllArgsConstructor;
+import net.runelite.api.Skill;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The quest requirements between quests, along with the skills each quest requires or rewards experience in.
+ * <p>
+ * A quest's requirements are only read the first time the quest is visited, so filtering the quest list doesn't
+ * need to set up every quest's requirements up front, or re-walk them for every path through the prerequisites.
+ * </p>
+ */
+public class QuestPrerequisiteGraph
+{
+	private final Function<QuestHelperQuest, QuestHelper> questHelpers;
+	private final Map<QuestHelperQuest, Node> nodes = new EnumMap<>(QuestHelperQuest.class);
+
+	public QuestPrerequisiteGraph()
+	{
+		this(QuestHelperQuest::getQuestHelper);
+	}
+
+	QuestPrerequisiteGraph(Function<QuestHelperQuest, QuestHelper> questHelpers)
+	{
+		this.questHelpers = questHelpers;
+	}
+
+	/**
+	 * @param skill the skill to get the bit for
+	 * @return the bit representing the skill in a skill mask
+	 */
+	public static long skillMask(Skill skill)
+	{
+		return 1L << skill.ordinal();
+	}
+
+	/**
+	 * Check if a quest requires or rewards experience in any of the given skills, ignoring its prerequisites.
+	 *
+	 * @param quest the quest to check
+	 * @param filteredSkills the skill mask of skills to filter out
+	 * @return true if the quest doesn't involve any of the skills
+	 */
+	public boolean questPassesSkillFilter(QuestHelperQuest quest, long filteredSkills)
+	{
+		return (getNode(quest).skillMask & filteredSkills) == 0;
+	}
+
+	/**
+	 * Check if a quest helper requires or rewards experience in any of the given skills, ignoring its prerequisites.
+	 *
+	 * @param questHelper the quest helper to check
+	 * @param filteredSkills the skill mask of skills to filter out
+	 * @return true if the quest helper doesn't involve any of the skills
+	 */
+	public static boolean questPassesSkillFilter(QuestHelper questHelper, long filteredSkills)
+	{
+		return (createNode(questHelper).skillMask & filteredSkills) == 0;
+	}
+
+	/**
+	 * Check if a quest helper, along with all of its prerequisites, doesn't require or reward experience in any of
+	 * the given skills. Helpers without a quest are checked from their own requirements.
+	 *
+	 * @param questHelper the quest helper to check
+	 * @param filteredSkills the skill mask of skills to filter out
+	 * @param results the results of previous checks with the same skill mask, which this check adds to
+	 * @return true if the quest helper and its prerequisites don't involve any of the skills
+	 */
+	public boolean passesSkillFilter(QuestHelper questHelper, long filteredSkills, Map<QuestHelperQuest, Boolean> results)
+	{
+		QuestHelperQuest quest = questHelper.getQuest();
+		if (quest != null)
+		{
+			return passesSkillFilter(quest, filteredSkills, results);
+		}
+		return new SkillFilterSearch(filteredSkills, results).passes(createNode(questHelper), 0);
+	}
+
+	/**
+	 * Check whether a quest and all of its prerequisites pass the skill filter, only creating the helpers of quests
+	 * which haven't been checked before.
+	 *
+	 * @param quest the quest to check
+	 * @param filteredSkills the skill mask of skills to filter out
+	 * @param results the results of previous checks with the same skill mask, which this check adds to
+	 * @return true if the quest and its prerequisites don't involve any of the skills
+	 */
+	public boolean passesSkillFilter(QuestHelperQuest quest, long filteredSkills, Map<QuestHelperQuest, Boolean> results)
+	{
+		return new SkillFilterSearch(filteredSkills, results).passes(quest, 0);
+	}
+
+	private Node getNode(QuestHelperQuest quest)
+	{
+		Node node = nodes.get(quest);
+		if (node == null)
+		{
+			QuestHelper questHelper = questHelpers.apply(quest);
+			if (questHelper == null)
+			{
+				node = new Node(new ArrayList<>(), 0);
+			}
+			else
+			{
+				questHelper.initializeRequirements();
+				node = createNode(questHelper);
+			}
+			nodes.put(quest, node);
+		}
+		return node;
+	}
+
+	private static Node createNode(QuestHelper questHelper)
+	{
+		List<QuestHelperQuest> prerequisites = new ArrayList<>();
+		long skillMask = 0;
+		List<Requirement> generalRequirements = questHelper.getGeneralRequirements();
+		if (generalRequirements != null)
+		{
+			for (Requirement requirement : generalRequirements)
+			{
+				if (requirement instanceof QuestRequirement)
+				{
+					prerequisites.add(((QuestRequirement) requirement).getQuest());
+				}
+				else if (requirement instanceof SkillRequirement)
+				{
+					skillMask |= skillMask(((SkillRequirement) requirement).getSkill());
+				}
+			}
+		}
+
+		List<ExperienceReward> experienceRewards = questHelper.getExperienceRewards();
+		if (experienceRewards != null)
+		{
+			for (ExperienceReward experienceReward : experienceRewards)
+			{
+				skillMask |= skillMask(experienceReward.getSkill());
+			}
+		}
+
+		return new Node(prerequisites, skillMask);
+	}
+
+	@AllArgsConstructor
+	private static class Node
+	{
+		private final List<QuestHelperQuest> prerequisites;
+		private final long skillMask;
+	}
+
+	/**
+	 * A depth first search through the prerequisites of a quest.
+	 * <p>
+	 * A quest reached again while it's still being visited is assumed to pass, as the visit further up accounts for
+	 * it. Passing results which relied on that assumption are only memoized once the quest they relied on finishes.
+	 * </p>
+	 */
+	private class SkillFilterSearch
+	{
+		private final long filteredSkills;
+		private final Map<QuestHelperQuest, Boolean> results;
+		private final Map<QuestHelperQuest, Integer> visitingDepths = new EnumMap<>(QuestHelperQuest.class);
+
+		// The depth of the shallowest quest still being visited which the last check assumed to pass
+		private int lowestAssumedDepth;
+
+		SkillFilterSearch(long filteredSkills, Map<QuestHelperQuest, Boolean> results)
+		{
+			this.filteredSkills = filteredSkills;
+			this.results = results;
+		}
+
+		boolean passes(QuestHelperQuest quest, int depth)
+		{
+			Boolean result = results.get(quest);
+			if (result != null)
+			{
+				lowestAssumedDepth = Integer.MAX_VALUE;
+				return result;
+			}
+
+			Integer visitingDepth = visitingDepths.get(quest);
+			if (visitingDepth != null)
+			{
+				lowestAssumedDepth = visitingDepth;
+				return true;
+			}
+
+			visitingDepths.put(quest, depth);
+			boolean passes = passes(getNode(quest), depth);
+			visitingDepths.remove(quest);
+
+			if (!passes || lowestAssumedDepth >= depth)
+			{
+				results.put(quest, passes);
+				lowestAssumedDepth = Integer.MAX_VALUE;
+			}
+			return passes;
+		}
+
+		boolean passes(Node node, int depth)
+		{
+			int assumedDepth = Integer.MAX_VALUE;
+			boolean passes = (node.skillMask & filteredSkills) == 0;
+			for (QuestHelperQuest prerequisite : node.prerequisites)
+			{
+				if (!passes)
+				{
+					break;
+				}
+				passes = passes(prerequisite, depth + 1);
+				assumedDepth = Math.min(assumedDepth, lowestAssumedDepth);
+			}
+
+			// A failure doesn't depend on anything assumed to pass
+			lowestAssumedDepth = passes ? assumedDepth : Integer.MAX_VALUE;
+			return passes;
+		}
+	}
+}
@@ -28,68 +28,87 @@ package com.questhelper.config;
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.questinfo.QuestHelperQuest;
-import com.questhelper.requirements.player.SkillRequirement;
-import com.questhelper.requirements.quest.QuestRequirement;
 import net.runelite.api.Skill;
+import net.runelite.client.config.ConfigManager;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public class SkillFiltering
 {
+	private static QuestPrerequisiteGraph prerequisiteGraph;
+
+	// Results of the most recently used skill filter, which rarely changes between refreshes
+	private static long lastFilteredSkills;
+	private static Map<QuestHelperQuest, Boolean> lastResults;
+
 	/**
-	 * Recursively get all quest requirements
+	 * Create a filter for the quest list, reading the skills to filter out from config once.
 	 *
-	 * @param questHelper the quest to be tested
-	 * @return a boolean indicating if any of the quests give defense experience
+	 * @param configManager the {@link ConfigManager} holding the skill filter
+	 * @return a predicate which passes quests which, along with all of their quest requirements, don't require or
+	 * reward experience in any filtered skill
 	 */
-	public static boolean passesSkillFilter(QuestHelper questHelper)
+	public static Predicate<QuestHelperQuest> createSkillFilter(ConfigManager configManager)
 	{
-		if (!questPassesSkillFilter(questHelper))
+		long filteredSkills = getFilteredSkills(configManager);
+		if (filteredSkills == 0)
 		{
-			return false;
+			return quest -> true;
 		}
-		List<QuestRequirement> questRequirements = questHelper.getGeneralRequirements() != null
-			? questHelper.getGeneralRequirements().stream()
-			.filter(QuestRequirement.class::isInstance)
-			.map(QuestRequirement.class::cast)
-			.collect(Collectors.toList())
-			: Collections.emptyList();
 
-		if (questRequirements.isEmpty())
+		QuestPrerequisiteGraph graph = getPrerequisiteGraph();
+		Map<QuestHelperQuest, Boolean> results = getResults(filteredSkills);
+		return quest -> graph.passesSkillFilter(quest, filteredSkills, results);
+	}
+
+	public static boolean passesSkillFilter(QuestHelper questHelper)
+	{
+		long filteredSkills = getFilteredSkills(questHelper.getConfigManager());
+		if (filteredSkills == 0)
 		{
 			return true;
 		}
-		else
+		return getPrerequisiteGraph().passesSkillFilter(questHelper, filteredSkills, getResults(filteredSkills));
+	}
+
+	private static Map<QuestHelperQuest, Boolean> getResults(long filteredSkills)
+	{
+		if (lastResults == null || lastFilteredSkills != filteredSkills)
 		{
-			return questRequirements.stream()
-				.map(QuestRequirement::getQuest)
-				.map(QuestHelperQuest::getQuestHelper)
-				.allMatch(SkillFiltering::passesSkillFilter);
+			lastResults = new EnumMap<>(QuestHelperQuest.class);
+			lastFilteredSkills = filteredSkills;
 		}
+		return lastResults;
 	}
 
 	public static boolean questPassesSkillFilter(QuestHelper questHelper)
 	{
-		List<Skill> skillsToFilterOut = Arrays.stream(Skill.values())
-			.filter(skill -> "true".equals(questHelper.getConfigManager().getConfiguration(QuestHelperConfig.QUEST_BACKGROUND_GROUP, "skillfilter" + skill.getName())))
-			.collect(Collectors.toList());
+		return QuestPrerequisiteGraph.questPassesSkillFilter(questHelper, getFilteredSkills(questHelper.getConfigManager()));
+	}
 
-		boolean passesAll = true;
-		if (questHelper.getGeneralRequirements() != null)
+	private static long getFilteredSkills(ConfigManager configManager)
+	{
+		long filteredSkills = 0;
+		for (Skill skill : Skill.values())
 		{
-			passesAll = questHelper.getGeneralRequirements().stream()
-				.filter(SkillRequirement.class::isInstance)
-				.map(SkillRequirement.class::cast)
-				.noneMatch(req -> skillsToFilterOut.contains(req.getSkill()));
+			if ("true".equals(configManager.getConfiguration(QuestHelperConfig.QUEST_BACKGROUND_GROUP, "skillfilter" + skill.getName())))
+			{
+				filteredSkills |= QuestPrerequisiteGraph.skillMask(skill);
+			}
 		}
-		if (passesAll && questHelper.getExperienceRewards() != null)
+		return filteredSkills;
+	}
+
+	private static QuestPrerequisiteGraph getPrerequisiteGraph()
+	{
+		// Built on first use. Each quest's helper is only created, and its requirements read, once the quest is first
+		// filtered.
+		if (prerequisiteGraph == null)
 		{
-			passesAll = questHelper.getExperienceRewards().stream()
-				.noneMatch(req -> skillsToFilterOut.contains(req.getSkill()));
+			prerequisiteGraph = new QuestPrerequisiteGraph();
 		}
-		return passesAll;
+		return prerequisiteGraph;
 	}
 }
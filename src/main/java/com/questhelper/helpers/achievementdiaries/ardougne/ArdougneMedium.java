@@ -93,6 +93,13 @@ public class ArdougneMedium extends ComplexStateQuestHelper
 	ConditionalStep uniPenTask, grapYanTask, ardyStrawTask, tpArdyTask, balloonCWTask, claimSandTask, fishOnPlatformTask,
 		pickMasterFarmerTask, caveNightshadeTask, killSwordchickTask, ibanUpgradeTask, necroTowerTask;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's account type
+		return false;
+	}
+
 	@Override
 	public QuestStep loadStep()
 	{
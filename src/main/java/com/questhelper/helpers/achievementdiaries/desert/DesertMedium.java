@@ -84,6 +84,13 @@ public class DesertMedium extends ComplexStateQuestHelper
 		eagleTravelTask, prayElidinisTask, combatPotTask, tpEnakhraTask, visitGenieTask, tpPollnivneachTask,
 		chopTeakTask;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's account type
+		return false;
+	}
+
 	@Override
 	public QuestStep loadStep()
 	{
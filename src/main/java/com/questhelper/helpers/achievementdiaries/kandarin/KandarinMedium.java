@@ -97,6 +97,13 @@ public class KandarinMedium extends ComplexStateQuestHelper
 		stringMapleTask, pickLimpTask, mindHelmTask, fireGiantTask, barbAssTask, stealHemenTask, travelMcGruborTask,
 		mineCoalTask;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Agility level
+		return false;
+	}
+
 	@Override
 	public QuestStep loadStep()
 	{
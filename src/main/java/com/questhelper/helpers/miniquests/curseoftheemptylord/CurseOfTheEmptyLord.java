@@ -66,6 +66,13 @@ public class CurseOfTheEmptyLord extends BasicQuestHelper
 	//Zones
 	Zone roguesCastleFirstFloor, edgevilleDungeon, slayerTowerFirstFloor, edgevilleMonastery, partyRoom;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the path the player was given
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -113,11 +113,11 @@ public class EnchantedKeyDigStep extends DetailedQuestStep
 		if (questHelper.getVar() != currentVar)
 		{
 			currentVar = questHelper.getVar();
-			resetState();
+			resetLocations();
 		}
 	}
 
-	public void resetState()
+	public void resetLocations()
 	{
 		setWorldPoint(null);
 		int locationStates = client.getVarbitValue(1391);
@@ -159,12 +159,12 @@ public class MageArenaBossStep extends DetailedQuestStep
 			foundLocation = false;
 			setText("The bosses have changed locations. " + originalTextStart + bossName + originalTextEnd);
 			setRequirements(Arrays.asList(baseRequirements));
-			resetState();
+			resetLocations();
 		}
 		currentVar = newState;
 	}
 
-	public void resetState()
+	public void resetLocations()
 	{
 		setWorldPoint(null);
 		Set<MageArenaSpawnLocation> locations =
@@ -250,6 +250,13 @@ public class MageArenaBossStep extends DetailedQuestStep
 
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps whether the boss's location has been found
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -38,6 +38,13 @@ public class AllNeededItems extends ComplexStateQuestHelper
 {
 	DetailedQuestStep step1;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps are built from the items needed by the quests being highlighted when started
+		return false;
+	}
+
 	@Override
 	public QuestStep loadStep()
 	{
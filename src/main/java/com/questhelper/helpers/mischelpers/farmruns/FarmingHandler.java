@@ -52,8 +52,22 @@ public class FarmingHandler
 	@Nullable
 	public CropState predictPatch(FarmingPatch patch, String profile)
 	{
-		long unixNow = Instant.now().getEpochSecond();
+		PatchPrediction prediction = predict(patch, profile, Instant.now().getEpochSecond());
+		return prediction == null ? null : prediction.getCropState();
+	}
 
+	/**
+	 * Predict the state of a patch from the data stored by the time tracking plugin.
+	 *
+	 * @param patch the patch to predict
+	 * @param profile the RS profile the data is stored under
+	 * @param unixNow the time to predict for, in epoch seconds
+	 * @return the prediction, with the time the patch finishes growing as the done estimate if it's still growing and
+	 * 0 otherwise, or null if nothing is known about the patch
+	 */
+	@Nullable
+	public PatchPrediction predict(FarmingPatch patch, String profile, long unixNow)
+	{
 		String key = patch.configKey();
 		String storedValue = configManager.getConfiguration("timetracking", profile, key);
 
@@ -81,13 +95,13 @@ public class FarmingHandler
 
 		PatchState state = patch.getImplementation().forVarbitValue(value);
 		if (state == null) return null;
-		if (state.getCropState() == CropState.EMPTY) return CropState.EMPTY;
-		if (state.getProduce() == Produce.WEEDS) return CropState.EMPTY;
-		if (state.getCropState() == CropState.UNCHECKED) return CropState.UNCHECKED;
-		if (state.getCropState() == CropState.STUMP) return CropState.STUMP;
+		if (state.getCropState() == CropState.EMPTY) return prediction(state, CropState.EMPTY, 0);
+		if (state.getProduce() == Produce.WEEDS) return prediction(state, CropState.EMPTY, 0);
+		if (state.getCropState() == CropState.UNCHECKED) return prediction(state, CropState.UNCHECKED, 0);
+		if (state.getCropState() == CropState.STUMP) return prediction(state, CropState.STUMP, 0);
 		if (state.getCropState() == CropState.HARVESTABLE)
 		{
-			return CropState.HARVESTABLE;
+			return prediction(state, CropState.HARVESTABLE, 0);
 		}
 
 		if (unixTime <= 0)
@@ -109,23 +123,34 @@ public class FarmingHandler
 		long doneEstimate = 0;
 		if (tickrate > 0)
 		{
-			long tickTime = getTickTime(tickrate, 0, unixTime, profile);
-			doneEstimate = getTickTime(tickrate, stages - 1 - stage, tickTime, profile);
+			Integer offsetPrecisionMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION, int.class);
+			Integer offsetTimeMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET, int.class);
+			long tickTime = getTickTime(tickrate, 0, unixTime, offsetPrecisionMins, offsetTimeMins);
+			doneEstimate = getTickTime(tickrate, stages - 1 - stage, tickTime, offsetPrecisionMins, offsetTimeMins);
 		}
 
 		if (unixNow >= doneEstimate)
 		{
-			return CropState.UNCHECKED;
+			return prediction(state, CropState.UNCHECKED, 0);
 		}
 
-		return CropState.GROWING;
+		return prediction(state, CropState.GROWING, doneEstimate);
+	}
+
+	private PatchPrediction prediction(PatchState state, CropState cropState, long doneEstimate)
+	{
+		return new PatchPrediction(state.getProduce(), cropState, doneEstimate, state.getStage(), state.getStages());
 	}
 
 	public long getTickTime(int tickRate, int ticks, long requestedTime, String profile)
 	{
 		Integer offsetPrecisionMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET_PRECISION, int.class);
 		Integer offsetTimeMins = configManager.getConfiguration(TimeTrackingConfig.CONFIG_GROUP, profile, TimeTrackingConfig.FARM_TICK_OFFSET, int.class);
+		return getTickTime(tickRate, ticks, requestedTime, offsetPrecisionMins, offsetTimeMins);
+	}
 
+	private long getTickTime(int tickRate, int ticks, long requestedTime, Integer offsetPrecisionMins, Integer offsetTimeMins)
+	{
 		//All offsets are negative but are stored as positive
 		long calculatedOffsetTime = 0L;
 		if (offsetPrecisionMins != null && offsetTimeMins != null && (offsetPrecisionMins >= tickRate || offsetPrecisionMins >= 40))
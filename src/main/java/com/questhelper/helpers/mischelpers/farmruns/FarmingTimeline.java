@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.helpers.mischelpers.farmruns;
+
+import net.runelite.api.Client;
+import net.runelite.api.Varbits;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.plugins.timetracking.TimeTrackingConfig;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Predicts the {@link CropState} of a set of patches over time. The data stored by the time tracking plugin is only
+ * parsed again when it changes, and after that the only change in a prediction is a growing patch becoming ready to
+ * check, so each {@link #update()} just moves on the patches whose growth has finished since the last one.
+ */
+public class FarmingTimeline
+{
+	private final Client client;
+	private final ConfigManager configManager;
+	private final FarmingHandler farmingHandler;
+	private final List<FarmingPatch> patches;
+
+	private final Map<FarmingPatch, PatchPrediction> predictions = new HashMap<>();
+	private final PriorityQueue<FarmingPatch> growingPatches = new PriorityQueue<>(
+		Comparator.comparingLong(patch -> predictions.get(patch).getDoneEstimate()));
+
+	private volatile boolean stale = true;
+	private String profile;
+	private boolean botanist;
+
+	public FarmingTimeline(Client client, ConfigManager configManager, Collection<FarmingPatch> patches)
+	{
+		this.client = client;
+		this.configManager = configManager;
+		this.farmingHandler = new FarmingHandler(client, configManager);
+		this.patches = new ArrayList<>(patches);
+	}
+
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (TimeTrackingConfig.CONFIG_GROUP.equals(event.getGroup()))
+		{
+			stale = true;
+		}
+	}
+
+	/**
+	 * Parse the stored patch data again on the next {@link #update()}.
+	 */
+	public void invalidate()
+	{
+		stale = true;
+	}
+
+	/**
+	 * Bring the predictions up to date. This should be called each game tick, before the predictions are read.
+	 */
+	public void update()
+	{
+		String currentProfile = configManager.getRSProfileKey();
+		boolean currentBotanist = client.getVarbitValue(Varbits.LEAGUE_RELIC_5) == 1;
+		long unixNow = Instant.now().getEpochSecond();
+
+		if (stale || botanist != currentBotanist || !Objects.equals(profile, currentProfile))
+		{
+			stale = false;
+			profile = currentProfile;
+			botanist = currentBotanist;
+			rebuild(unixNow);
+			return;
+		}
+
+		while (!growingPatches.isEmpty() && predictions.get(growingPatches.peek()).getDoneEstimate() <= unixNow)
+		{
+			FarmingPatch patch = growingPatches.poll();
+			PatchPrediction growing = predictions.get(patch);
+			predictions.put(patch, new PatchPrediction(growing.getProduce(), CropState.UNCHECKED, 0,
+				growing.getStage(), growing.getStages()));
+		}
+	}
+
+	/**
+	 * @param patch the patch to look up
+	 * @return the predicted state of the patch, or null if nothing is known about it
+	 */
+	@Nullable
+	public CropState getCropState(FarmingPatch patch)
+	{
+		PatchPrediction prediction = predictions.get(patch);
+		return prediction == null ? null : prediction.getCropState();
+	}
+
+	/**
+	 * @param patch the patch to look up
+	 * @return the time in epoch seconds at which the patch finishes growing, or 0 if it isn't growing
+	 */
+	public long getNextTransition(FarmingPatch patch)
+	{
+		PatchPrediction prediction = predictions.get(patch);
+		return prediction == null ? 0 : prediction.getDoneEstimate();
+	}
+
+	private void rebuild(long unixNow)
+	{
+		growingPatches.clear();
+		predictions.clear();
+		for (FarmingPatch patch : patches)
+		{
+			PatchPrediction prediction = farmingHandler.predict(patch, profile, unixNow);
+			if (prediction == null)
+			{
+				continue;
+			}
+
+			predictions.put(patch, prediction);
+			if (prediction.getCropState() == CropState.GROWING)
+			{
+				growingPatches.add(patch);
+			}
+		}
+	}
+}
@@ -68,7 +68,7 @@ public class HerbRun extends ComplexStateQuestHelper
 	@Inject
 	private FarmingWorld farmingWorld;
 
-	private FarmingHandler farmingHandler;
+	private FarmingTimeline farmingTimeline;
 
 	DetailedQuestStep waitForHerbs, ardougnePatch, catherbyPatch, faladorPatch, farmingGuildPatch, harmonyPatch, morytaniaPatch, trollStrongholdPatch, weissPatch, hosidiusPatch, varlamorePatch;
 
@@ -109,7 +109,7 @@ public class HerbRun extends ComplexStateQuestHelper
 	@Override
 	public QuestStep loadStep()
 	{
-		farmingHandler = new FarmingHandler(client, configManager);
+		farmingTimeline = new FarmingTimeline(client, configManager, farmingWorld.getTabs().get(Tab.HERB));
 		initializeRequirements();
 		setupConditions();
 		setupSteps();
@@ -363,9 +363,18 @@ public class HerbRun extends ComplexStateQuestHelper
 		varlamorePatch.addSubSteps(varlamorePlant);
 	}
 
+	@Override
+	public void startUp(QuestHelperConfig config)
+	{
+		super.startUp(config);
+		// The patches may have changed while the helper wasn't running
+		farmingTimeline.invalidate();
+	}
+
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		farmingTimeline.onConfigChanged(event);
 		if (!event.getGroup().equals(QuestHelperConfig.QUEST_BACKGROUND_GROUP))
 		{
 			return;
@@ -394,10 +403,11 @@ public class HerbRun extends ComplexStateQuestHelper
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
+		farmingTimeline.update();
 		int seedsNeeded = 0;
 		for (FarmingPatch patch : farmingWorld.getTabs().get(Tab.HERB))
 		{
-			CropState state = farmingHandler.predictPatch(patch);
+			CropState state = farmingTimeline.getCropState(patch);
 			boolean isHarvestable = state == CropState.HARVESTABLE || state == CropState.UNCHECKED;
 			boolean isPlantable = state == CropState.EMPTY || state == CropState.DEAD || state == null;
 
@@ -24,12 +24,15 @@
  */
 package com.questhelper.helpers.mischelpers.farmruns;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.client.plugins.timetracking.Tab;
 import net.runelite.client.plugins.timetracking.farming.Produce;
 
 import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Getter
@@ -38,7 +41,7 @@ public enum PatchImplementation
 	BELLADONNA(Tab.SPECIAL, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -76,7 +79,7 @@ public enum PatchImplementation
 	MUSHROOM(Tab.SPECIAL, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -114,7 +117,7 @@ public enum PatchImplementation
 	HESPORI(Tab.SPECIAL, "", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -142,7 +145,7 @@ public enum PatchImplementation
 	ALLOTMENT(Tab.ALLOTMENT, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -475,7 +478,7 @@ public enum PatchImplementation
 	HERB(Tab.HERB, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -752,7 +755,7 @@ public enum PatchImplementation
 	FLOWER(Tab.FLOWER, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -1025,7 +1028,7 @@ public enum PatchImplementation
 	BUSH(Tab.BUSH, "", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -1258,7 +1261,7 @@ public enum PatchImplementation
 	FRUIT_TREE(Tab.FRUIT_TREE, "", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -1541,7 +1544,7 @@ public enum PatchImplementation
 	HOPS(Tab.HOPS, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -1844,7 +1847,7 @@ public enum PatchImplementation
 	TREE(Tab.TREE, "", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2127,7 +2130,7 @@ public enum PatchImplementation
 	HARDWOOD_TREE(Tab.TREE, "Hardwood Trees", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2210,7 +2213,7 @@ public enum PatchImplementation
 	REDWOOD(Tab.TREE, "Redwood Trees", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2258,7 +2261,7 @@ public enum PatchImplementation
 	SPIRIT_TREE(Tab.TREE, "Spirit Trees", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2306,7 +2309,7 @@ public enum PatchImplementation
 	ANIMA(Tab.SPECIAL, "", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2353,7 +2356,7 @@ public enum PatchImplementation
 	CACTUS(Tab.SPECIAL, "Cactus", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2426,7 +2429,7 @@ public enum PatchImplementation
 	SEAWEED(Tab.SPECIAL, "Seaweed", false)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2464,7 +2467,7 @@ public enum PatchImplementation
 	CALQUAT(Tab.FRUIT_TREE, "Calquat", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2507,7 +2510,7 @@ public enum PatchImplementation
 	CELASTRUS(Tab.FRUIT_TREE, "Celastrus", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2565,7 +2568,7 @@ public enum PatchImplementation
 	GRAPES(Tab.GRAPE, "", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 1)
 				{
@@ -2590,7 +2593,7 @@ public enum PatchImplementation
 	CRYSTAL_TREE(Tab.FRUIT_TREE, "Crystal Tree", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value >= 0 && value <= 3)
 				{
@@ -2618,7 +2621,7 @@ public enum PatchImplementation
 	COMPOST(Tab.SPECIAL, "Compost Bin", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value == 0)
 				{
@@ -2691,7 +2694,7 @@ public enum PatchImplementation
 	BIG_COMPOST(Tab.SPECIAL, "Big Compost Bin", true)
 		{
 			@Override
-			PatchState forVarbitValue(int value)
+			PatchState computeState(int value)
 			{
 				if (value == 0)
 				{
@@ -2792,12 +2795,54 @@ public enum PatchImplementation
 			}
 		};
 
+	// Farming varbits are 8 bits wide, so every value a patch can have fits in its table
+	static final int MAX_VARBIT_VALUE = 255;
+
+	static
+	{
+		// Identical states are shared between implementations, as PatchState is immutable
+		Map<PatchState, PatchState> sharedStates = new HashMap<>();
+		for (PatchImplementation implementation : values())
+		{
+			implementation.states = new PatchState[MAX_VARBIT_VALUE + 1];
+			for (int value = 0; value <= MAX_VARBIT_VALUE; value++)
+			{
+				PatchState state = implementation.computeState(value);
+				if (state != null)
+				{
+					implementation.states[value] = sharedStates.computeIfAbsent(state, s -> s);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Look up the state of a patch from its varbit value. The states are computed once when the class is loaded, so
+	 * this is a single array load.
+	 */
 	@Nullable
-	abstract PatchState forVarbitValue(int value);
+	PatchState forVarbitValue(int value)
+	{
+		if (value < 0 || value > MAX_VARBIT_VALUE)
+		{
+			return computeState(value);
+		}
+		return states[value];
+	}
+
+	/**
+	 * Work out the state of a patch from its varbit value. This is only used to build the lookup table, so use
+	 * {@link #forVarbitValue(int)} instead.
+	 */
+	@Nullable
+	abstract PatchState computeState(int value);
 
 	private final Tab tab;
 
 	private final String name;
 
 	private final boolean healthCheckRequired;
+
+	@Getter(AccessLevel.NONE)
+	private PatchState[] states;
 }
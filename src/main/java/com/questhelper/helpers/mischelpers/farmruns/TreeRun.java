@@ -63,6 +63,7 @@ import net.runelite.client.game.ItemManager;
 import net.runelite.client.plugins.timetracking.Tab;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import static com.questhelper.requirements.util.LogicHelper.*;
@@ -83,7 +84,7 @@ public class TreeRun extends ComplexStateQuestHelper
 	@Inject
 	ItemManager itemManager;
 
-	private FarmingHandler farmingHandler;
+	private FarmingTimeline farmingTimeline;
 
 	DetailedQuestStep waitForTree;
 
@@ -161,7 +162,9 @@ public class TreeRun extends ComplexStateQuestHelper
 	{
 		initializeRequirements();
 		setupSteps();
-		farmingHandler = new FarmingHandler(client, configManager);
+		Set<FarmingPatch> treePatches = new HashSet<>(farmingWorld.getTabs().get(Tab.TREE));
+		treePatches.addAll(farmingWorld.getTabs().get(Tab.FRUIT_TREE));
+		farmingTimeline = new FarmingTimeline(client, configManager, treePatches);
 
 		ReorderableConditionalStep steps = new ReorderableConditionalStep(this, waitForTree, spade, coins, rake, compost
 			, farmersOutfit, gracefulOutfit);
@@ -816,6 +819,7 @@ public class TreeRun extends ComplexStateQuestHelper
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
+		farmingTimeline.update();
 		coins.setQuantity(0);
 		allProtectionItemTree.setQuantity(protectionItemTree.getQuantity());
 		allProtectionItemFruitTree.setQuantity(protectionItemFruitTree.getQuantity());
@@ -840,7 +844,7 @@ public class TreeRun extends ComplexStateQuestHelper
 				continue;
 			}
 
-			CropState state = farmingHandler.predictPatch(patch);
+			CropState state = farmingTimeline.getCropState(patch);
 			boolean isPlantable = state == CropState.EMPTY || state == CropState.DEAD;
 			boolean isUnchecked = state == CropState.UNCHECKED; // 'Check health'
 			boolean isHarvestable = state == CropState.HARVESTABLE; // 'Chop'
@@ -878,9 +882,18 @@ public class TreeRun extends ComplexStateQuestHelper
 		allPayment.setQuantity(allPayment.getQuantity() * numberOfSaplings);
 	}
 
+	@Override
+	public void startUp(QuestHelperConfig config)
+	{
+		super.startUp(config);
+		// The patches may have changed while the helper wasn't running
+		farmingTimeline.invalidate();
+	}
+
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		farmingTimeline.onConfigChanged(event);
 		if (!event.getGroup().equals(QuestHelperConfig.QUEST_BACKGROUND_GROUP))
 		{
 			return;
@@ -140,6 +140,13 @@ public class StatuePuzzle extends DetailedOwnerStep
 	}
 
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the city order once it has been read
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
@@ -114,6 +114,13 @@ public class StonePuzzleStep extends DetailedOwnerStep
 		}
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the answers read from the stone panel
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
@@ -66,6 +66,13 @@ public class TombRiddle extends DetailedOwnerStep
 		emblems.put(SCARAB, scarabEmblem);
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the solution read from the riddle
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -71,6 +71,13 @@ public class GiveIngredientsToHelpersStep extends DetailedOwnerStep
 		}
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps which helper the player last talked to
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
@@ -80,6 +80,13 @@ public class BoneVoyage extends BasicQuestHelper
 	//Zones
 	Zone boat, boatSailing;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on whether the player can enter the Woodcutting Guild
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
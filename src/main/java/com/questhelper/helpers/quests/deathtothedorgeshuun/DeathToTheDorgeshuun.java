@@ -83,6 +83,13 @@ public class DeathToTheDorgeshuun extends BasicQuestHelper
 	Zone basement, lumbridgeF0, lumbridgeF1, lumbridgeF2, tunnels, mines, hamBase, behindGuard1, nearGuard4, nearGuard5, storeRoom, swamp, junaRoom,
 		mill1, mill2;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's name
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -53,9 +53,17 @@ public class IncantationStep extends ConditionalStep
 	{
 		super(questHelper, incantationStep);
 		this.incantationStep = incantationStep;
+		this.updateStepsEveryTick = true;
 		this.steps.get(null).getText().add("Incantation is currently unknown.");
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps how far through the incantation the player is
+		return false;
+	}
+
 	@Override
 	/**
 	 * {@inheritDoc}
@@ -115,6 +115,13 @@ public class CryptPuzzle extends DetailedOwnerStep
 		items.put(TRISTAN, tristanBust);
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the solution read from the crypt
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
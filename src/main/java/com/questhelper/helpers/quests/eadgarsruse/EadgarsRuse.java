@@ -83,6 +83,13 @@ public class EadgarsRuse extends BasicQuestHelper
 	Zone sanfewRoom, tenzingHut, mountainPath1, mountainPath2, mountainPath3, mountainPath4, mountainPath5, trollArea1, prison, strongholdFloor1, strongholdFloor2, eadgarsCave,
 		trollheimArea, storeroom;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Thieving level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
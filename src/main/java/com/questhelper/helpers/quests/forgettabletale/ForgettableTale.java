@@ -141,6 +141,13 @@ public class ForgettableTale extends BasicQuestHelper
 	Zone keldagrim, wolfUnderground, pubUpstairs, consortium, puzzleRoom, puzzleSmallPlatform,
 		puzzleMediumPlatform, listeningRoom1, puzzle5Room, library;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on which director the player has joined
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -85,6 +85,13 @@ public class GhostsAhoy extends BasicQuestHelper
 
 	boolean canUseCharos;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on whether the ring of charos can be used yet
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -89,6 +89,13 @@ public class HeroesQuest extends BasicQuestHelper
 
 	boolean isInBlackArmGang;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Agility level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -107,6 +107,13 @@ public class LunarDiplomacy extends BasicQuestHelper
 		waterAltar, earthAltar, fireAltar, lunarMine, centreOfDream, chanceDream, numbersDream, treeDream, memoryDream, raceDream,
 		mimicDream, fightArena;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's gender
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -53,6 +53,13 @@ public class MemoryChallenge extends DetailedQuestStep
 			"Work out the route across the cloud tiles through trial and error.");
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the path walked so far
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -442,6 +442,13 @@ public class AgilityDungeonSteps extends DetailedOwnerStep
 		lastPosition = currentPosition;
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the routes worked out as the dungeon is explored
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick ignoredEvent)
 	{
@@ -112,6 +112,13 @@ public class MonkeyMadnessII extends BasicQuestHelper
 	//Zones
 	Zone gloughHouseF1, gloughHouseF2, gloughHouseF3, anitaHouse, caves, subCaves, zooknockDungeon, strongholdFloor2, lab, pastMonkeyBars, northOfTree, crashSiteCavern;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Agility level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
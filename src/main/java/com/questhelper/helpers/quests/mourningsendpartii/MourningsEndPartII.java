@@ -129,6 +129,13 @@ public class MourningsEndPartII extends BasicQuestHelper
 	Zone mournerHQ, mournerHQ2, mournerBasement, cave, templeF0, templeF1, northTempleF2, southTempleF2, northRoomF2, templeStairSquare, blueRoom, yellowRoom1, yellowRoom2, cyanRoom1,
 		cyanRoom2, deathAltarArea, centralArea, centralAreaBehindBarrier, ibanRoom, wellEntrance, passF1, passF0, deathAltar;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's account type and Slayer level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
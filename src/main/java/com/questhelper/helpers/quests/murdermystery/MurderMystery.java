@@ -82,6 +82,13 @@ public class MurderMystery extends BasicQuestHelper
 	ConditionalStep useFlour, searchBarrel, useFlypaper, comparePrints, talkToSuspect, searchSuspectItem;
 	DetailedQuestStep useFlourSidebar, searchBarrelSidebar, useFlypaperSidebar, comparePrintsSidebar, talkToSuspectSidebar, searchSuspectItemSidebar;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Sidebar steps are updated for the suspect when loaded
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -72,6 +72,7 @@ public class RumSmugglingStep extends ConditionalStep
 	public RumSmugglingStep(QuestHelper questHelper)
 	{
 		super(questHelper, new DetailedQuestStep(questHelper, "Please open Pirate Treasure's Quest Journal to sync the current quest state."));
+		this.updateStepsEveryTick = true;
 		setupItemRequirements();
 		setupZones();
 		setupConditions();
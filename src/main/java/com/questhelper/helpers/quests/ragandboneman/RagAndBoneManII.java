@@ -156,6 +156,13 @@ public class RagAndBoneManII extends BasicQuestHelper
 
 	ConditionalStep pickupBoneSteps;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Agility level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
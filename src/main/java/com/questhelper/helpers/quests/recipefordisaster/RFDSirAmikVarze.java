@@ -77,6 +77,13 @@ public class RFDSirAmikVarze extends BasicQuestHelper
 
 	int evilChickenLevel = 19;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on whether the player has finished Legends' Quest, and on their combat level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
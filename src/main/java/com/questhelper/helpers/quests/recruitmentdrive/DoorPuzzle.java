@@ -93,6 +93,13 @@ public class DoorPuzzle extends QuestStep
 		setText("Click the highlighted arrows to move the slots to the solution. The answer is " + word + ".");
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the word learned for the door
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick gameTick)
 	{
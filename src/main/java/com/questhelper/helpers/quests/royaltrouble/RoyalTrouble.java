@@ -85,6 +85,13 @@ public class RoyalTrouble extends BasicQuestHelper
 	Zone miscFloor1, etcFloor1, islands, dungeon, liftRoom, plankRoom, path1, path2p1, path2p2, path3p1, path3p2, path3p3, path4p1, path4p2, jumpIsland1, jumpIsland2, jumpIsland3, bossRoom;
 	Zone path4p3;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Mining level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
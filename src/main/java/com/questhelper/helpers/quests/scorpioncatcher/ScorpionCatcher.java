@@ -44,6 +44,13 @@ public class ScorpionCatcher extends BasicQuestHelper
 
 	ConditionalStep finishQuest;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Agility level
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
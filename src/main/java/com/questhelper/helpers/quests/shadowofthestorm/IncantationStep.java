@@ -95,6 +95,13 @@ public class IncantationStep extends DetailedQuestStep
 		this.reverse = reverse;
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps how far through the incantation the player is
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -143,6 +143,13 @@ public class SheepShearer extends BasicQuestHelper
 		turnInBalls.addDialogSteps("I need to talk to you about shearing these sheep!");
 	}
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Requirements are set up from the player's inventory and progress
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
@@ -327,6 +327,13 @@ public class DoorPuzzleStep extends DetailedQuestStep
 		return new PuzzleState(createAllSolutions(rowSums), createAllSolutions(columnSums), generateNewGrid(), SIZE * SIZE);
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the result of solving the door
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
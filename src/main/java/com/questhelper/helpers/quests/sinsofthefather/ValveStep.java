@@ -115,6 +115,13 @@ public class ValveStep extends DetailedOwnerStep
 		}
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the valve combination worked out so far
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
@@ -69,6 +69,13 @@ public class BaxtorianPuzzle extends DetailedOwnerStep
 		super(questHelper, "Solve the pillar puzzle.");
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps which items have been ruled out from the hints
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -64,6 +64,13 @@ public class RuneEnergyStep extends ObjectStep
 			ObjectID.TOTE_ABYSSAL_ENERGY_FIRE_VIS);
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the order of energies read from chat
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -362,6 +362,13 @@ public class MetalDoorSolver extends DetailedOwnerStep
 
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the code worked out for the door
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -292,6 +292,13 @@ public class TilePuzzleSolver extends DetailedOwnerStep
 		updateSteps();
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the path worked out through the tiles
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
@@ -85,6 +85,13 @@ public class PuzzleStep extends DetailedOwnerStep
 		setupShapes();
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the inventory from the last time it changed
+		return false;
+	}
+
 	@Override
 	public void startUp()
 	{
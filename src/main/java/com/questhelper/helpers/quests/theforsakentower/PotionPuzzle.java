@@ -94,6 +94,13 @@ public class PotionPuzzle extends DetailedOwnerStep
 		super(questHelper, "");
 	}
 
+	@Override
+	public boolean canResetState()
+	{
+		// Keeps the fluid read from the notes
+		return false;
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
@@ -89,6 +89,13 @@ public class TheFremennikIsles extends BasicQuestHelper
 
 	List<ItemRequirement> items;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's account type
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
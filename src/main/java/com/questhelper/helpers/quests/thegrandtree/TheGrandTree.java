@@ -82,6 +82,13 @@ public class TheGrandTree extends BasicQuestHelper
 	ConditionalStep climbToTopOfGrandTree, climbToBottomOfGrandTree, goTalkToCharlie, goFindGloughJournal,
 		goConfrontGlough, goTalkToCharlie3, goGetAnitaKey;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on whether the player has finished Tree Gnome Village
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
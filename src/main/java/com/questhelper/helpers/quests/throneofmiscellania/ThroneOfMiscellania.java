@@ -79,6 +79,13 @@ public class ThroneOfMiscellania extends BasicQuestHelper
 	//Zones
 	Zone islands, miscCastleFirstFloor, etcCastleFirstFloor, brandRoom1, brandRoom2, astridRoom1, astridRoom2;
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// Steps depend on the player's Farming, Mining and Woodcutting levels
+		return false;
+	}
+
 	@Override
 	public Map<Integer, QuestStep> loadSteps()
 	{
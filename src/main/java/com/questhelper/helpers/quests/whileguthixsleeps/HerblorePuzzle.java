@@ -67,6 +67,7 @@ public class HerblorePuzzle extends ConditionalStep
 	public HerblorePuzzle(QuestHelper questHelper, QuestStep step, Requirement... requirements)
 	{
 		super(questHelper, step, requirements);
+		this.updateStepsEveryTick = true;
 		setupSteps();
 	}
 
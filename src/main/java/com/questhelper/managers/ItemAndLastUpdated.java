@@ -26,13 +26,13 @@ package com.questhelper.managers;
 
 import com.questhelper.requirements.item.TrackedContainers;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Item;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.concurrent.Callable;
+import java.util.function.IntSupplier;
 
 @Slf4j
 public class ItemAndLastUpdated
@@ -45,8 +45,19 @@ public class ItemAndLastUpdated
     private int lastUpdated = -1;
     private Item[] items = new Item[0];
 
-    @Setter
+    // counts are rebuilt lazily whenever the items they were built from are replaced
+    private ItemCounts itemCounts = ItemCounts.EMPTY;
+    private Item[] countedItems = items;
+
+    // incremented each time the items are updated
+    private int version = 0;
+
     private Callable<Item[]> specialMethodToObtainItems;
+    private IntSupplier specialMethodToObtainVersion;
+
+    // number of times any tracked container has been updated, used to detect changes without comparing items
+    @Getter
+    private static int updateCount = 0;
 
     public ItemAndLastUpdated(TrackedContainers containerType)
     {
@@ -57,6 +68,36 @@ public class ItemAndLastUpdated
     {
         this.lastUpdated = updateTick;
         this.items = items;
+        version++;
+        updateCount++;
+    }
+
+    /**
+     * Set a method to obtain the current state of the Container other than from the {@link Item}[] items variable.
+     *
+     * @param specialMethodToObtainItems the method returning the items, which should return the same array until they change
+     * @param specialMethodToObtainVersion the method returning a number which increases each time the items change
+     */
+    public void setSpecialMethodToObtainItems(Callable<Item[]> specialMethodToObtainItems, IntSupplier specialMethodToObtainVersion)
+    {
+        this.specialMethodToObtainItems = specialMethodToObtainItems;
+        this.specialMethodToObtainVersion = specialMethodToObtainVersion;
+    }
+
+    /**
+     * Get a number which increases each time the items in the container may have changed.
+     * This can be compared against a previously seen version without needing to obtain the items.
+     *
+     * @return the current version of the container
+     */
+    public int getVersion()
+    {
+        if (specialMethodToObtainVersion != null)
+        {
+            return specialMethodToObtainVersion.getAsInt();
+        }
+
+        return version;
     }
 
     /**
@@ -81,4 +122,24 @@ public class ItemAndLastUpdated
 
         return items;
     }
+
+    /**
+     * Get the total quantity of each item contained within the Tracked Container.
+     *
+     * @return the {@link ItemCounts} for the items currently thought to be in the container.
+     */
+    public @Nonnull ItemCounts getItemCounts()
+    {
+        Item[] currentItems = getItems();
+        if (currentItems == null)
+        {
+            return ItemCounts.EMPTY;
+        }
+        if (currentItems != countedItems)
+        {
+            itemCounts = new ItemCounts(currentItems);
+            countedItems = currentItems;
+        }
+        return itemCounts;
+    }
 }
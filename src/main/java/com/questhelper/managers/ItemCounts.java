@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import net.runelite.api.Item;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Totals of each item id in a container, stored in a primitive open-addressing table so lookups don't allocate.
+ */
+public class ItemCounts
+{
+    public static final ItemCounts EMPTY = new ItemCounts(new Item[0]);
+
+    private static final int NO_ITEM = -1;
+
+    private final int[] ids;
+    private final int[] quantities;
+    private final int[] stacks;
+    private final int mask;
+
+    /**
+     * @param items the items to count, null entries and empty slots are ignored
+     */
+    public ItemCounts(@Nonnull Item[] items)
+    {
+        // Keep the table at most half full
+        int capacity = Integer.highestOneBit(Math.max(items.length, 1) * 2 - 1) << 1;
+        ids = new int[capacity];
+        quantities = new int[capacity];
+        stacks = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(ids, NO_ITEM);
+
+        for (Item item : items)
+        {
+            if (item == null || item.getId() < 0)
+            {
+                continue;
+            }
+
+            int slot = findSlot(item.getId());
+            ids[slot] = item.getId();
+            quantities[slot] += item.getQuantity();
+            stacks[slot]++;
+        }
+    }
+
+    /**
+     * @param itemId the item id to look up
+     * @return the total quantity of the item across all slots
+     */
+    public int getQuantity(int itemId)
+    {
+        if (itemId < 0)
+        {
+            return 0;
+        }
+        return quantities[findSlot(itemId)];
+    }
+
+    /**
+     * @param itemId the item id to look up
+     * @return the number of slots containing the item
+     */
+    public int getStacks(int itemId)
+    {
+        if (itemId < 0)
+        {
+            return 0;
+        }
+        return stacks[findSlot(itemId)];
+    }
+
+    private int findSlot(int itemId)
+    {
+        int slot = mix(itemId) & mask;
+        while (ids[slot] != NO_ITEM && ids[slot] != itemId)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int itemId)
+    {
+        int h = itemId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the {@link NPC}s in the scene, keyed by their composition's id, so lookups don't need to scan every NPC.
+ * <p>
+ * The index is kept up to date by the NPC spawn, despawn and change events forwarded from the plugin, and is rebuilt
+ * once logged in to a new scene. All methods should be called from the client thread.
+ * </p>
+ */
+public class NpcIndex
+{
+	private static final Map<Integer, List<NPC>> npcsByCompositionId = new HashMap<>();
+
+	// The composition id each NPC was added under, so it can be removed once its composition has changed
+	private static final Map<NPC, Integer> indexedIds = new HashMap<>();
+
+	// NPCs which transform depending on the player's varbits, so their id can change without a change event
+	private static final List<NPC> multiNpcs = new ArrayList<>();
+
+	/**
+	 * Replace the contents of the index with every NPC currently in the scene.
+	 *
+	 * @param client the {@link Client}
+	 */
+	public static void rebuild(Client client)
+	{
+		clear();
+		for (NPC npc : client.getTopLevelWorldView().npcs())
+		{
+			add(npc);
+		}
+	}
+
+	public static void clear()
+	{
+		npcsByCompositionId.clear();
+		indexedIds.clear();
+		multiNpcs.clear();
+	}
+
+	public static void add(NPC npc)
+	{
+		if (npc == null || indexedIds.containsKey(npc))
+		{
+			return;
+		}
+
+		NPCComposition composition = npc.getComposition();
+		int compositionId = composition == null ? npc.getId() : composition.getId();
+		npcsByCompositionId.computeIfAbsent(compositionId, id -> new ArrayList<>()).add(npc);
+		indexedIds.put(npc, compositionId);
+
+		if (composition != null && composition.getConfigs() != null)
+		{
+			multiNpcs.add(npc);
+		}
+	}
+
+	public static void remove(NPC npc)
+	{
+		Integer compositionId = indexedIds.remove(npc);
+		if (compositionId == null)
+		{
+			return;
+		}
+
+		List<NPC> npcs = npcsByCompositionId.get(compositionId);
+		if (npcs != null)
+		{
+			npcs.remove(npc);
+			if (npcs.isEmpty())
+			{
+				npcsByCompositionId.remove(compositionId);
+			}
+		}
+		multiNpcs.remove(npc);
+	}
+
+	/**
+	 * Re-index an NPC whose composition has changed.
+	 *
+	 * @param npc the changed {@link NPC}
+	 */
+	public static void update(NPC npc)
+	{
+		remove(npc);
+		add(npc);
+	}
+
+	/**
+	 * Get the NPCs in the scene whose id or composition id matches the given id. Each NPC is included once.
+	 *
+	 * @param npcId the id of the NPCs to find
+	 * @return the matching NPCs, which must not be modified
+	 */
+	public static List<NPC> getNpcs(int npcId)
+	{
+		List<NPC> npcs = npcsByCompositionId.getOrDefault(npcId, Collections.emptyList());
+
+		List<NPC> matches = null;
+		for (NPC npc : multiNpcs)
+		{
+			if (npc.getId() == npcId && !indexedIds.get(npc).equals(npcId))
+			{
+				if (matches == null)
+				{
+					matches = new ArrayList<>(npcs);
+				}
+				matches.add(npc);
+			}
+		}
+		return matches == null ? npcs : matches;
+	}
+}
@@ -97,11 +97,13 @@ public class QuestBankManager
 
 	public void startUpQuest()
 	{
+		bankTagService.invalidateQuest();
 		questBankTab.startUp();
 	}
 
 	public void shutDownQuest()
 	{
+		bankTagService.invalidateQuest();
 		questBankTab.shutDown();
 	}
 
@@ -115,6 +117,26 @@ public class QuestBankManager
 		return groupBank.getBankItems();
 	}
 
+	public Item[] getBankItemsSnapshot()
+	{
+		return questBank.getBankItemsSnapshot();
+	}
+
+	public int getBankVersion()
+	{
+		return questBank.getVersion();
+	}
+
+	public Item[] getGroupBankItemsSnapshot()
+	{
+		return groupBank.getBankItemsSnapshot();
+	}
+
+	public int getGroupBankVersion()
+	{
+		return groupBank.getVersion();
+	}
+
 	public void refreshBankTab()
 	{
 		questBankTab.refreshBankTab();
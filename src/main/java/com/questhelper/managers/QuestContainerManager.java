@@ -59,6 +59,10 @@ public class QuestContainerManager
     @Getter
     private final static List<ItemAndLastUpdated> orderedListOfContainers = List.of(equippedData, inventoryData, bankData, runePouchData, potionData, groupStorageData);
 
+    // same as orderedListOfContainers, for checks that shouldn't allocate a new array each time. Must not be modified.
+    @Getter
+    private final static ItemAndLastUpdated[] orderedContainers = orderedListOfContainers.toArray(new ItemAndLastUpdated[0]);
+
     static Set<Integer> RUNE_POUCHES = Set.of(ItemID.BH_RUNE_POUCH, ItemID.BH_RUNE_POUCH_TROUVER, ItemID.DIVINE_RUNE_POUCH, ItemID.DIVINE_RUNE_POUCH_TROUVER);
     private static final int NUM_SLOTS = 6;
     private static final int[] AMOUNT_VARBITS = {
@@ -29,7 +29,6 @@ import com.questhelper.QuestHelperConfig;
 import com.questhelper.QuestHelperPlugin;
 import com.questhelper.config.SkillFiltering;
 import com.questhelper.panel.QuestHelperPanel;
-import com.questhelper.questhelpers.QuestDetails;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.requirements.item.ItemRequirement;
@@ -39,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.QuestState;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
@@ -104,6 +104,10 @@ public class QuestManager
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRequirements = new TreeMap<>();
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRecommended = new TreeMap<>();
 
+	private static final int REQUIREMENTS_INITIALIZED_PER_TICK = 10;
+	// Incremented each time the item requirements are rebuilt, so an older rebuild still in progress is abandoned
+	private int itemRequirementsGeneration = 0;
+
 	/**
 	 * Initializes the QuestManager with the given QuestHelperPanel.
 	 *
@@ -180,15 +184,18 @@ public class QuestManager
 	/**
 	 * Handles changes in game varbits.
 	 * Checks for quest completion and shuts down the quest if completed.
+	 *
+	 * @param event the {@link VarbitChanged} event
 	 */
-	public void handleVarbitChanged()
+	public void handleVarbitChanged(VarbitChanged event)
 	{
 		if (selectedQuest == null)
 		{
 			return;
 		}
 
-		if (selectedQuest.updateQuest() && selectedQuest.getCurrentStep() == null)
+		// Steps are chosen only by the quest's own var, so other changes such as to run energy or prayer are skipped
+		if (selectedQuest.getQuest().isVarChange(event) && selectedQuest.updateQuest() && selectedQuest.getCurrentStep() == null)
 		{
 			shutDownQuest(true);
 		}
@@ -223,17 +230,18 @@ public class QuestManager
 	{
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
-			List<QuestHelper> filteredQuests = QuestHelperQuest.getQuestHelpers(isDeveloperMode())
-				.stream()
+			// The list is built from each quest's details, so helpers are only created for filters which need them
+			List<QuestHelperQuest> quests = QuestHelperQuest.getQuests(isDeveloperMode());
+			Map<QuestHelperQuest, QuestState> completedQuests = quests.stream()
+				.collect(Collectors.toMap(q -> q, q -> q.getState(client, configManager)));
+			boolean showCompletedQuests = config.showCompletedQuests();
+			List<QuestHelperQuest> filteredQuests = quests.stream()
 				.filter(config.filterListBy())
 				.filter(config.difficulty())
-				.filter(QuestDetails::showCompletedQuests)
-				.filter(SkillFiltering::passesSkillFilter)
+				.filter(q -> showCompletedQuests || completedQuests.get(q) != QuestState.FINISHED)
+				.filter(SkillFiltering.createSkillFilter(configManager))
 				.sorted(config.orderListBy())
 				.collect(Collectors.toList());
-			Map<QuestHelperQuest, QuestState> completedQuests = QuestHelperQuest.getQuestHelpers(isDeveloperMode())
-				.stream()
-				.collect(Collectors.toMap(QuestHelper::getQuest, q -> q.getState(client)));
 			SwingUtilities.invokeLater(() -> {
 				if (panel != null) {
 					panel.refresh(filteredQuests, false, completedQuests, config.orderListBy().getSections());
@@ -462,7 +470,7 @@ public class QuestManager
 	private void getAllItemRequirements()
 	{
 		clientThread.invokeLater(() -> {
-			Predicate<QuestHelper> pred = (questHelper) -> false;
+			Predicate<QuestHelperQuest> pred = (quest) -> false;
 			if (config.highlightNeededQuestItems())
 			{
 				pred = pred.or(QuestHelperConfig.QuestFilter.QUEST);
@@ -476,36 +484,62 @@ public class QuestManager
 				pred = pred.or(QuestHelperConfig.QuestFilter.ACHIEVEMENT_DIARY);
 			}
 
-			List<QuestHelper> filteredQuests = QuestHelperQuest.getQuestHelpers(isDeveloperMode())
+			List<QuestHelper> filteredQuests = QuestHelperQuest.getQuests(isDeveloperMode())
 				.stream()
 				.filter(pred)
-				.filter(QuestDetails::isNotCompleted)
+				.filter(q -> q.getState(client, configManager) != QuestState.FINISHED)
 				.sorted(config.orderListBy())
+				.map(QuestHelperQuest::getQuestHelper)
 				.collect(Collectors.toList());
 
-			SortedMap<QuestHelperQuest, List<ItemRequirement>> newReqs = new TreeMap<>();
-			SortedMap<QuestHelperQuest, List<ItemRequirement>> newRecommended = new TreeMap<>();
-			filteredQuests.forEach((QuestHelper questHelper) -> {
-				if (questHelper.getItemRequirements() != null)
+			// Requirements are only set up for the quests being highlighted, spread over several ticks
+			int generation = ++itemRequirementsGeneration;
+			Iterator<QuestHelper> uninitializedQuests = filteredQuests.iterator();
+			clientThread.invokeLater(() -> {
+				if (generation != itemRequirementsGeneration)
 				{
-					newReqs.put(questHelper.getQuest(), questHelper.getItemRequirements());
+					return true;
 				}
-				if (questHelper.getItemRecommended() != null)
+
+				for (int i = 0; i < REQUIREMENTS_INITIALIZED_PER_TICK && uninitializedQuests.hasNext(); i++)
 				{
-					newRecommended.put(questHelper.getQuest(), questHelper.getItemRecommended());
+					uninitializedQuests.next().initializeRequirements();
 				}
+				if (uninitializedQuests.hasNext())
+				{
+					return false;
+				}
+
+				updateItemRequirements(filteredQuests);
+				return true;
 			});
-			itemRequirements = newReqs;
-			itemRecommended = newRecommended;
+		});
+	}
 
-			String checkItemsName = QuestHelperQuest.CHECK_ITEMS.getName();
-			if (config.highlightItemsBackground()
-				&& !(selectedQuest != null && selectedQuest.getQuest() == QuestHelperQuest.CHECK_ITEMS))
+	private void updateItemRequirements(List<QuestHelper> filteredQuests)
+	{
+		SortedMap<QuestHelperQuest, List<ItemRequirement>> newReqs = new TreeMap<>();
+		SortedMap<QuestHelperQuest, List<ItemRequirement>> newRecommended = new TreeMap<>();
+		filteredQuests.forEach((QuestHelper questHelper) -> {
+			if (questHelper.getItemRequirements() != null)
+			{
+				newReqs.put(questHelper.getQuest(), questHelper.getItemRequirements());
+			}
+			if (questHelper.getItemRecommended() != null)
 			{
-				shutDownBackgroundQuest(backgroundHelpers.get(checkItemsName));
-				startUpBackgroundQuest(checkItemsName);
+				newRecommended.put(questHelper.getQuest(), questHelper.getItemRecommended());
 			}
 		});
+		itemRequirements = newReqs;
+		itemRecommended = newRecommended;
+
+		String checkItemsName = QuestHelperQuest.CHECK_ITEMS.getName();
+		if (config.highlightItemsBackground()
+			&& !(selectedQuest != null && selectedQuest.getQuest() == QuestHelperQuest.CHECK_ITEMS))
+		{
+			shutDownBackgroundQuest(backgroundHelpers.get(checkItemsName));
+			startUpBackgroundQuest(checkItemsName);
+		}
 	}
 
 	/**
@@ -546,12 +580,4 @@ public class QuestManager
 			startUpBackgroundQuest(QuestHelperQuest.CHECK_ITEMS.getName());
 		}
 	}
-
-	public void setupRequirements()
-	{
-		for (QuestHelperQuest questHelperQuest : QuestHelperQuest.values())
-		{
-			questHelperQuest.getQuestHelper().initializeRequirements();
-		}
-	}
 }
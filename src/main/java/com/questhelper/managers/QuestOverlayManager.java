@@ -76,6 +76,11 @@ public class QuestOverlayManager
 		overlayManager.saveOverlay(questHelperOverlay);
 	}
 
+	public void invalidateOverlay()
+	{
+		questHelperOverlay.invalidate();
+	}
+
 	public void shutDown()
 	{
 		overlayManager.remove(questHelperOverlay);
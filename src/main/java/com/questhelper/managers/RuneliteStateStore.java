@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.QuestHelperConfig;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the values of the quest background config group for the current RS profile in memory. Values are loaded from
+ * the {@link ConfigManager} once per profile, and writes which change a value are written back to it together, either
+ * after {@link #FLUSH_DELAY_MILLIS} or when {@link #flush(ConfigManager)} is called on logout and shutdown.
+ */
+public class RuneliteStateStore
+{
+	private static final String CONFIG_GROUP = QuestHelperConfig.QUEST_BACKGROUND_GROUP;
+
+	private static final long FLUSH_DELAY_MILLIS = 5000;
+
+	private static final Map<String, Entry> entries = new HashMap<>();
+	private static final Map<String, String> pendingWrites = new LinkedHashMap<>();
+
+	private static String profileKey;
+	private static int generation;
+	private static long firstPendingWriteMillis;
+	private static int version;
+
+	/**
+	 * The value of a single config key. Holders of an entry can read it without looking it up again, for as long as
+	 * {@link #isCurrent()} is true.
+	 */
+	public static class Entry
+	{
+		private final int entryGeneration;
+		private volatile String value;
+
+		private Entry(int entryGeneration, String value)
+		{
+			this.entryGeneration = entryGeneration;
+			this.value = value;
+		}
+
+		public String getValue()
+		{
+			return value;
+		}
+
+		/**
+		 * @return false once the RS profile has changed, after which the entry should be fetched again
+		 */
+		public boolean isCurrent()
+		{
+			return entryGeneration == generation;
+		}
+	}
+
+	/**
+	 * Get the entry for a key of the current RS profile, loading it from the {@link ConfigManager} the first time.
+	 *
+	 * @param configManager the {@link ConfigManager}
+	 * @param key the key in the quest background config group
+	 * @return the {@link Entry} for the key
+	 */
+	public static synchronized Entry getEntry(ConfigManager configManager, String key)
+	{
+		checkProfile(configManager);
+		Entry entry = entries.get(key);
+		if (entry == null)
+		{
+			entry = new Entry(generation, configManager.getRSProfileConfiguration(CONFIG_GROUP, key));
+			entries.put(key, entry);
+		}
+		return entry;
+	}
+
+	public static String getValue(ConfigManager configManager, String key)
+	{
+		return getEntry(configManager, key).getValue();
+	}
+
+	/**
+	 * Set the value of a key for the current RS profile. Nothing is written if the value is unchanged, and otherwise
+	 * the write to the {@link ConfigManager} is deferred until the store is next flushed.
+	 *
+	 * @param configManager the {@link ConfigManager}
+	 * @param key the key in the quest background config group
+	 * @param value the new value
+	 */
+	public static synchronized void setValue(ConfigManager configManager, String key, String value)
+	{
+		if (configManager.getRSProfileKey() == null) return;
+
+		Entry entry = getEntry(configManager, key);
+		if (Objects.equals(entry.value, value)) return;
+
+		entry.value = value;
+		version++;
+		if (pendingWrites.isEmpty())
+		{
+			firstPendingWriteMillis = System.currentTimeMillis();
+		}
+		pendingWrites.put(key, value);
+	}
+
+	/**
+	 * @return a count which changes whenever a value is set to something new, before it has been written to the
+	 * {@link ConfigManager}
+	 */
+	public static synchronized int getVersion()
+	{
+		return version;
+	}
+
+	/**
+	 * Drop the values of the previous RS profile as soon as it changes, rather than on the next lookup, as holders of
+	 * an {@link Entry} only fetch it again once it's no longer current.
+	 *
+	 * @param configManager the {@link ConfigManager}
+	 */
+	public static synchronized void onProfileChanged(ConfigManager configManager)
+	{
+		checkProfile(configManager);
+	}
+
+	/**
+	 * Flush the pending writes if the oldest of them has waited for at least {@link #FLUSH_DELAY_MILLIS}.
+	 */
+	public static synchronized void flushIfDue(ConfigManager configManager)
+	{
+		if (!pendingWrites.isEmpty() && System.currentTimeMillis() - firstPendingWriteMillis >= FLUSH_DELAY_MILLIS)
+		{
+			flush(configManager);
+		}
+	}
+
+	/**
+	 * Write all pending values to the {@link ConfigManager}, for the RS profile they were set on.
+	 */
+	public static synchronized void flush(ConfigManager configManager)
+	{
+		if (pendingWrites.isEmpty() || profileKey == null) return;
+
+		// Clear first, as writing fires a ConfigChanged for each key which comes back into this store
+		Map<String, String> writes = new LinkedHashMap<>(pendingWrites);
+		pendingWrites.clear();
+		writes.forEach((key, value) -> {
+			if (value == null)
+			{
+				configManager.unsetConfiguration(CONFIG_GROUP, profileKey, key);
+			}
+			else
+			{
+				configManager.setConfiguration(CONFIG_GROUP, profileKey, key, value);
+			}
+		});
+	}
+
+	/**
+	 * Keep the store in step with values changed directly through the {@link ConfigManager}, such as from the panel.
+	 */
+	public static synchronized void onConfigChanged(ConfigChanged event)
+	{
+		if (!CONFIG_GROUP.equals(event.getGroup()) || profileKey == null || !profileKey.equals(event.getProfile()))
+		{
+			return;
+		}
+
+		Entry entry = entries.get(event.getKey());
+		if (entry != null && !pendingWrites.containsKey(event.getKey()))
+		{
+			entry.value = event.getNewValue();
+		}
+	}
+
+	private static void checkProfile(ConfigManager configManager)
+	{
+		String currentProfileKey = configManager.getRSProfileKey();
+		if (Objects.equals(profileKey, currentProfileKey)) return;
+
+		// Anything set on the previous profile still belongs to it
+		flush(configManager);
+		entries.clear();
+		profileKey = currentProfileKey;
+		generation++;
+	}
+}
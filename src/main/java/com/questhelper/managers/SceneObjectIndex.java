@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the {@link TileObject}s in the loaded scene, keyed by object id, so lookups don't need to scan every tile.
+ * <p>
+ * The index is kept up to date by the object spawn and despawn events forwarded from the plugin, and is cleared when
+ * a new scene starts loading. All methods should be called from the client thread.
+ * </p>
+ */
+public class SceneObjectIndex
+{
+	private static final Map<Integer, List<TileObject>> objectsById = new HashMap<>();
+
+	// Objects with impostors, which can match a different id depending on the player's varbits
+	private static final List<TileObject> multilocObjects = new ArrayList<>();
+
+	/**
+	 * Replace the contents of the index with every object currently in the scene.
+	 *
+	 * @param client the {@link Client}
+	 */
+	public static void rebuild(Client client)
+	{
+		clear();
+
+		Scene scene = client.getTopLevelWorldView().getScene();
+		if (scene == null)
+		{
+			return;
+		}
+
+		for (Tile[][] plane : scene.getTiles())
+		{
+			for (Tile[] lineOfTiles : plane)
+			{
+				for (Tile tile : lineOfTiles)
+				{
+					if (tile == null)
+					{
+						continue;
+					}
+
+					for (GameObject object : tile.getGameObjects())
+					{
+						// Large objects are stored on every tile they cover, so only add them from their origin tile
+						if (object != null && object.getSceneMinLocation().equals(tile.getSceneLocation()))
+						{
+							add(client, object);
+						}
+					}
+					add(client, tile.getDecorativeObject());
+					add(client, tile.getGroundObject());
+					add(client, tile.getWallObject());
+				}
+			}
+		}
+	}
+
+	public static void clear()
+	{
+		objectsById.clear();
+		multilocObjects.clear();
+	}
+
+	public static void add(Client client, TileObject object)
+	{
+		if (object == null)
+		{
+			return;
+		}
+
+		objectsById.computeIfAbsent(object.getId(), id -> new ArrayList<>()).add(object);
+
+		ObjectComposition composition = client.getObjectDefinition(object.getId());
+		if (composition != null && composition.getImpostorIds() != null)
+		{
+			multilocObjects.add(object);
+		}
+	}
+
+	public static void remove(TileObject object)
+	{
+		if (object == null)
+		{
+			return;
+		}
+
+		List<TileObject> objects = objectsById.get(object.getId());
+		if (objects != null)
+		{
+			objects.remove(object);
+			if (objects.isEmpty())
+			{
+				objectsById.remove(object.getId());
+			}
+		}
+		multilocObjects.remove(object);
+	}
+
+	/**
+	 * Get the objects in the scene with the given id, on any plane. Impostors are not resolved.
+	 *
+	 * @param objectId the id of the objects to find
+	 * @return the matching objects, which must not be modified
+	 */
+	public static List<TileObject> getObjects(int objectId)
+	{
+		return objectsById.getOrDefault(objectId, Collections.emptyList());
+	}
+
+	/**
+	 * Get the objects in the scene which have impostors, on any plane.
+	 *
+	 * @return the matching objects, which must not be modified
+	 */
+	public static List<TileObject> getMultilocObjects()
+	{
+		return multilocObjects;
+	}
+}
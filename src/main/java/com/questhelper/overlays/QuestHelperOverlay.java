@@ -29,6 +29,7 @@ package com.questhelper.overlays;
 
 import com.questhelper.QuestHelperPlugin;
 import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.steps.QuestStep;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPriority;
@@ -43,12 +44,26 @@ public class QuestHelperOverlay extends OverlayPanel
 
 	private final QuestHelperPlugin plugin;
 
+	// The panel's children are kept between frames, and only built again once per game tick or when the step changes
+	private boolean stale = true;
+	private QuestHelper renderedQuest;
+	private QuestStep renderedStep;
+
 	@Inject
 	public QuestHelperOverlay(QuestHelperPlugin plugin)
 	{
 		this.plugin = plugin;
 		setLayer(OverlayLayer.UNDER_WIDGETS);
 		setPriority(PRIORITY_HIGHEST);
+		setClearChildren(false);
+	}
+
+	/**
+	 * Build the panel again on the next frame, for when anything shown in it may have changed.
+	 */
+	public void invalidate()
+	{
+		stale = true;
 	}
 
 	@Override
@@ -56,12 +71,14 @@ public class QuestHelperOverlay extends OverlayPanel
 	{
 		if (!plugin.getConfig().showOverlay())
 		{
+			clearPanel();
 			return super.render(graphics);
 		}
 		QuestHelper questHelper = plugin.getSelectedQuest();
 
 		if (questHelper == null || questHelper.getCurrentStep() == null)
 		{
+			clearPanel();
 			return null;
 		}
 
@@ -75,8 +92,23 @@ public class QuestHelperOverlay extends OverlayPanel
 			setLayer(OverlayLayer.UNDER_WIDGETS);
 			plugin.getQuestOverlayManager().updateOverlay();
 		}
-		questHelper.getCurrentStep().makeOverlayHint(panelComponent, plugin, new ArrayList<>(), new ArrayList<>());
+
+		QuestStep activeStep = questHelper.getCurrentStep().getActiveStep();
+		if (stale || questHelper != renderedQuest || activeStep != renderedStep)
+		{
+			panelComponent.getChildren().clear();
+			questHelper.getCurrentStep().makeOverlayHint(panelComponent, plugin, new ArrayList<>(), new ArrayList<>());
+			stale = false;
+			renderedQuest = questHelper;
+			renderedStep = activeStep;
+		}
 
 		return super.render(graphics);
 	}
+
+	private void clearPanel()
+	{
+		panelComponent.getChildren().clear();
+		stale = true;
+	}
 }
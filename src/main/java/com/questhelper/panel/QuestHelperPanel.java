@@ -487,7 +487,7 @@ public class QuestHelperPanel extends PluginPanel
 		});
 	}
 
-	public void refresh(List<QuestHelper> questHelpers, boolean loggedOut,
+	public void refresh(List<QuestHelperQuest> quests, boolean loggedOut,
 						Map<QuestHelperQuest, QuestState> completedQuests, QuestHelperConfig.QuestFilter... questFilters)
 	{
 		questSelectPanels.forEach(questListPanel::remove);
@@ -501,7 +501,7 @@ public class QuestHelperPanel extends PluginPanel
 		{
 			for (QuestHelperConfig.QuestFilter questFilter : questFilters)
 			{
-				List<QuestHelper> filterList = questHelpers.stream()
+				List<QuestHelperQuest> filterList = quests.stream()
 					.filter(questFilter)
 					.collect(Collectors.toList());
 
@@ -509,19 +509,19 @@ public class QuestHelperPanel extends PluginPanel
 				{
 					questSelectPanels.add(new QuestSelectPanel(questFilter.getDisplayName()));
 				}
-				for (QuestHelper questHelper : filterList)
+				for (QuestHelperQuest quest : filterList)
 				{
-					QuestState questState = completedQuests.getOrDefault(questHelper.getQuest(), QuestState.NOT_STARTED);
-					questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, questHelper, questState));
+					QuestState questState = completedQuests.getOrDefault(quest, QuestState.NOT_STARTED);
+					questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, quest, questState));
 				}
 			}
 		}
 		else
 		{
-			for (QuestHelper questHelper : questHelpers)
+			for (QuestHelperQuest quest : quests)
 			{
-				QuestState questState = completedQuests.getOrDefault(questHelper.getQuest(), QuestState.NOT_STARTED);
-				questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, questHelper, questState));
+				QuestState questState = completedQuests.getOrDefault(quest, QuestState.NOT_STARTED);
+				questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, quest, questState));
 			}
 		}
 
@@ -25,7 +25,7 @@
 package com.questhelper.panel;
 
 import com.questhelper.QuestHelperPlugin;
-import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.tools.Icon;
 import lombok.Getter;
 import net.runelite.api.QuestState;
@@ -43,20 +43,20 @@ public class QuestSelectPanel extends JPanel
 	private final List<String> keywords = new ArrayList<>();
 
 	@Getter
-	private final QuestHelper questHelper;
+	private final QuestHelperQuest quest;
 
 	private static final ImageIcon START_ICON = Icon.START.getIcon();
 
-	public QuestSelectPanel(QuestHelperPlugin questHelperPlugin, QuestHelperPanel questHelperPanel, QuestHelper questHelper, QuestState questState)
+	public QuestSelectPanel(QuestHelperPlugin questHelperPlugin, QuestHelperPanel questHelperPanel, QuestHelperQuest quest, QuestState questState)
 	{
-		this.questHelper = questHelper;
+		this.quest = quest;
 
-		keywords.addAll(questHelper.getQuest().getKeywords());
+		keywords.addAll(quest.getKeywords());
 
 		setLayout(new BorderLayout(3, 0));
 		setPreferredSize(new Dimension(PluginPanel.PANEL_WIDTH, 20));
 
-		JLabel nameLabel = JGenerator.makeJLabel(questHelper.getQuest().getName());
+		JLabel nameLabel = JGenerator.makeJLabel(quest.getName());
 		Color color = questState == QuestState.FINISHED ? questHelperPlugin.getConfig().passColour() : (questState == QuestState.IN_PROGRESS ?
 			new Color(240,207, 123) : Color.WHITE);
 		nameLabel.setForeground(color);
@@ -68,7 +68,7 @@ public class QuestSelectPanel extends JPanel
 			startButton.setIcon(START_ICON);
 			startButton.addActionListener(e ->
 			{
-				questHelperPanel.setSelectedQuest(questHelper);
+				questHelperPanel.setSelectedQuest(quest.getQuestHelper());
 				questHelperPanel.emptyBar();
 			});
 			add(startButton, BorderLayout.LINE_END);
@@ -77,7 +77,7 @@ public class QuestSelectPanel extends JPanel
 
 	public QuestSelectPanel(String text)
 	{
-		this.questHelper = null;
+		this.quest = null;
 
 		setLayout(new BorderLayout(3, 3));
 		setPreferredSize(new Dimension(PluginPanel.PANEL_WIDTH, 30));
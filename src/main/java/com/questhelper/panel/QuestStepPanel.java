@@ -27,6 +27,7 @@ package com.questhelper.panel;
 import com.questhelper.QuestHelperPlugin;
 import com.questhelper.managers.QuestManager;
 import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.requirements.RequirementCache;
 import com.questhelper.steps.QuestStep;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -219,7 +220,7 @@ public class QuestStepPanel extends JPanel implements MouseListener
 
 	public void updateHighlightCheck(Client client, QuestStep newStep, QuestHelper currentQuest)
 	{
-		if (panelDetails.getHideCondition() == null || !panelDetails.getHideCondition().check(client))
+		if (panelDetails.getHideCondition() == null || !RequirementCache.check(panelDetails.getHideCondition(), client))
 		{
 			setVisible(true);
 			boolean highlighted = false;
@@ -228,7 +229,7 @@ public class QuestStepPanel extends JPanel implements MouseListener
 
 			for (QuestStep sidebarStep : getSteps())
 			{
-				if (sidebarStep.getConditionToHide() != null && sidebarStep.getConditionToHide().check(client)) continue;
+				if (sidebarStep.getConditionToHide() != null && RequirementCache.check(sidebarStep.getConditionToHide(), client)) continue;
 				if (sidebarStep.containsSteps(newStep, new HashSet<>()))
 				{
 					highlighted = true;
@@ -389,7 +390,7 @@ public class QuestStepPanel extends JPanel implements MouseListener
 		for (QuestStep step : steps.keySet())
 		{
 			boolean oldVisibility = step.isShowInSidebar();
-			boolean newVisibility = step.getConditionToHide() == null || !step.getConditionToHide().check(client);
+			boolean newVisibility = step.getConditionToHide() == null || !RequirementCache.check(step.getConditionToHide(), client);
 			stepVisibilityChanged = stepVisibilityChanged || (oldVisibility != newVisibility);
 
 			step.setShowInSidebar(newVisibility);
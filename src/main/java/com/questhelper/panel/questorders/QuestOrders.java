@@ -24,9 +24,14 @@
  */
 package com.questhelper.panel.questorders;
 
-import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.rewards.QuestPointReward;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 public class QuestOrders
@@ -39,38 +44,98 @@ public class QuestOrders
 		return QUEST_NAME_PATTERN.matcher(questName).replaceAll("").trim();
 	}
 
-	public static Comparator<QuestHelper> sortOptimalOrder()
+	public static Comparator<QuestHelperQuest> sortOptimalOrder()
 	{
-		return Comparator.comparing(q -> OptimalQuestGuide.getQuestList().indexOf(q.getQuest()));
+		return Comparator.comparingInt(q -> Ranks.OPTIMAL.getOrDefault(q, -1));
 	}
 
-	public static Comparator<QuestHelper> sortOptimalIronmanOrder()
+	public static Comparator<QuestHelperQuest> sortOptimalIronmanOrder()
 	{
-		return Comparator.comparing(q -> IronmanOptimalQuestGuide.getQuestList().indexOf(q.getQuest()));
+		return Comparator.comparingInt(q -> Ranks.OPTIMAL_IRONMAN.getOrDefault(q, -1));
 	}
 
-	public static Comparator<QuestHelper> sortAToZ()
+	public static Comparator<QuestHelperQuest> sortAToZ()
 	{
-		return Comparator.comparing(q -> normalizeQuestName(q.getQuest().getName()));
+		return Comparator.comparingInt(q -> Ranks.NAME.get(q));
 	}
 
-	public static Comparator<QuestHelper> sortZToA()
+	public static Comparator<QuestHelperQuest> sortZToA()
 	{
-		return Comparator.comparing(q -> normalizeQuestName(q.getQuest().getName()), Comparator.reverseOrder());
+		return Comparator.comparingInt(q -> -Ranks.NAME.get(q));
 	}
 
-	public static Comparator<QuestHelper> sortByRelease()
+	public static Comparator<QuestHelperQuest> sortByRelease()
 	{
-		return Comparator.comparing(q -> ReleaseDate.getQuestList().indexOf(q.getQuest()));
+		return Comparator.comparingInt(q -> Ranks.RELEASE.getOrDefault(q, -1));
 	}
 
-	public static Comparator<QuestHelper> sortByQuestPointRewardAscending()
+	// The quest point rewards are only known by the helpers, so these orderings create the helpers of the quests sorted
+	public static Comparator<QuestHelperQuest> sortByQuestPointRewardAscending()
 	{
-		return Comparator.comparing(q -> q.getQuestPointReward() != null ? q.getQuestPointReward().getPoints() : 0);
+		return Comparator.comparingInt(QuestOrders::getQuestPoints);
 	}
 
-	public static Comparator<QuestHelper> sortByQuestPointRewardDescending()
+	public static Comparator<QuestHelperQuest> sortByQuestPointRewardDescending()
 	{
-		return Comparator.comparing(q -> q.getQuestPointReward() != null ? q.getQuestPointReward().getPoints() : 0, Comparator.reverseOrder());
+		return Comparator.comparingInt(q -> -getQuestPoints(q));
+	}
+
+	private static int getQuestPoints(QuestHelperQuest quest)
+	{
+		QuestPointReward reward = quest.getQuestHelper().getQuestPointReward();
+		return reward != null ? reward.getPoints() : 0;
+	}
+
+	/**
+	 * Position of each quest in each ordering, so comparisons don't need to search the lists or normalize names.
+	 * Held in its own class so the tables are only built on the first comparison, after the quests are loaded.
+	 */
+	private static class Ranks
+	{
+		private static final Map<QuestHelperQuest, Integer> OPTIMAL = rankByIndex(OptimalQuestGuide.getQuestList());
+		private static final Map<QuestHelperQuest, Integer> OPTIMAL_IRONMAN = rankByIndex(IronmanOptimalQuestGuide.getQuestList());
+		private static final Map<QuestHelperQuest, Integer> RELEASE = rankByIndex(ReleaseDate.getQuestList());
+		private static final Map<QuestHelperQuest, Integer> NAME = rankByNormalizedName();
+
+		private static Map<QuestHelperQuest, Integer> rankByIndex(List<QuestHelperQuest> quests)
+		{
+			Map<QuestHelperQuest, Integer> ranks = new EnumMap<>(QuestHelperQuest.class);
+			for (int i = 0; i < quests.size(); i++)
+			{
+				// Match indexOf, which finds the first occurrence
+				ranks.putIfAbsent(quests.get(i), i);
+			}
+			return ranks;
+		}
+
+		private static Map<QuestHelperQuest, Integer> rankByNormalizedName()
+		{
+			QuestHelperQuest[] quests = QuestHelperQuest.values();
+			String[] names = new String[quests.length];
+			for (int i = 0; i < quests.length; i++)
+			{
+				names[i] = normalizeQuestName(quests[i].getName());
+			}
+
+			Integer[] order = new Integer[quests.length];
+			for (int i = 0; i < order.length; i++)
+			{
+				order[i] = i;
+			}
+			Arrays.sort(order, Comparator.comparing(i -> names[i]));
+
+			// Quests with the same normalized name share a rank, so they still compare as equal
+			Map<QuestHelperQuest, Integer> ranks = new EnumMap<>(QuestHelperQuest.class);
+			int rank = 0;
+			for (int i = 0; i < order.length; i++)
+			{
+				if (i > 0 && !names[order[i]].equals(names[order[i - 1]]))
+				{
+					rank = i;
+				}
+				ranks.put(quests[order[i]], rank);
+			}
+			return ranks;
+		}
 	}
 }
@@ -34,9 +34,17 @@ import java.util.Map;
 
 public abstract class BasicQuestHelper extends QuestHelper
 {
+	/**
+	 * The largest quest var to index steps by in an array. Helpers with larger vars look their steps up in the map.
+	 */
+	private static final int MAX_INDEXED_VAR = 4096;
+
 	protected Map<Integer, QuestStep> steps;
 	protected int var;
 
+	// The steps indexed by quest var, or null if the vars are too sparse to fit in an array
+	private QuestStep[] stepsByVar;
+
 	public Map<Integer, QuestStep> getStepList() {
 		return this.steps;
 	}
@@ -61,15 +69,21 @@ public abstract class BasicQuestHelper extends QuestHelper
 	@Override
 	public void startUp(QuestHelperConfig config)
 	{
-		// this.tryLoadSteps();
-		// TODO: This should use `tryLoadSteps` but when it is being more careful to be initialized, it doesn't handle
-		// highlighting in sidebars properly
-		steps = loadSteps();
 		this.config = config;
-		instantiateSteps(steps.values());
+		if (steps != null && hasCompiledSteps())
+		{
+			// Steps keep state such as manual locks between runs, which the new sidebar wouldn't reflect
+			resetSteps(steps.values());
+		}
+		else
+		{
+			steps = loadSteps();
+			compileSteps(steps.values());
+		}
+		stepsByVar = indexStepsByVar(steps);
 		var = getVar();
 		sidebarOrder = questHelperPlugin.loadSidebarOrder(this);
-		startUpStep(steps.get(var));
+		startUpStep(getStepForVar(var));
 	}
 
 	@Override
@@ -82,16 +96,43 @@ public abstract class BasicQuestHelper extends QuestHelper
 	@Override
 	public boolean updateQuest()
 	{
-		if (var != getVar())
+		int newVar = getVar();
+		if (var != newVar)
 		{
-			var = getVar();
+			var = newVar;
 			shutDownStep();
-			startUpStep(steps.get(var));
+			startUpStep(getStepForVar(var));
 			return true;
 		}
 		return false;
 	}
 
+	private QuestStep getStepForVar(int var)
+	{
+		if (stepsByVar == null)
+		{
+			return steps.get(var);
+		}
+		return var >= 0 && var < stepsByVar.length ? stepsByVar[var] : null;
+	}
+
+	private static QuestStep[] indexStepsByVar(Map<Integer, QuestStep> steps)
+	{
+		int maxVar = -1;
+		for (Integer stepVar : steps.keySet())
+		{
+			if (stepVar == null || stepVar < 0 || stepVar > MAX_INDEXED_VAR)
+			{
+				return null;
+			}
+			maxVar = Math.max(maxVar, stepVar);
+		}
+
+		QuestStep[] stepsByVar = new QuestStep[maxVar + 1];
+		steps.forEach((stepVar, step) -> stepsByVar[stepVar] = step);
+		return stepsByVar;
+	}
+
 	public List<PanelDetails> getPanels()
 	{
 		List<PanelDetails> panelSteps = new ArrayList<>();
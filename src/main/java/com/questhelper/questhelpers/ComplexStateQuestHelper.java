@@ -49,9 +49,16 @@ public abstract class ComplexStateQuestHelper extends QuestHelper
 	@Override
 	public void startUp(QuestHelperConfig config)
 	{
-		step = loadStep();
 		this.config = config;
-		instantiateSteps(Collections.singletonList(step));
+		if (step != null && hasCompiledSteps())
+		{
+			resetSteps(Collections.singletonList(step));
+		}
+		else
+		{
+			step = loadStep();
+			compileSteps(Collections.singletonList(step));
+		}
 		var = getVar();
 		sidebarOrder = questHelperPlugin.loadSidebarOrder(this);
 		startUpStep(step);
@@ -53,6 +53,13 @@ public abstract class PlayerMadeQuestHelper extends ComplexStateQuestHelper
 		super.init();
 	}
 
+	@Override
+	protected boolean canReuseSteps()
+	{
+		// The fake NPCs and objects are created when the steps are loaded, and removed each time the helper shuts down
+		return false;
+	}
+
 	@Override
 	public void shutDown()
 	{
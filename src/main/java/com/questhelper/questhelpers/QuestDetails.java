@@ -31,20 +31,10 @@ import java.util.function.Predicate;
 
 public interface QuestDetails
 {
-	public static boolean showCompletedQuests(QuestHelper quest)
-	{
-		return quest.getConfig().showCompletedQuests() && quest.isCompleted() || !quest.isCompleted();
-	}
-
-	public static boolean isNotCompleted(QuestHelper quest)
-	{
-		return !quest.isCompleted();
-	}
-
 	/**
 	 * Describes the difficulty of a {@link QuestHelperQuest}
 	 */
-	public enum Difficulty implements Predicate<QuestHelper>
+	public enum Difficulty implements Predicate<QuestHelperQuest>
 	{
 		ALL,
 		NOVICE,
@@ -60,9 +50,9 @@ public interface QuestDetails
 		;
 
 		@Override
-		public boolean test(QuestHelper quest)
+		public boolean test(QuestHelperQuest quest)
 		{
-			return quest.getQuest().getDifficulty() == this || this == ALL;
+			return quest.getDifficulty() == this || this == ALL;
 		}
 	}
 
@@ -70,7 +60,7 @@ public interface QuestDetails
 	 * Describes if the quest is free-to-play (F2P), pay-to-play(P2P),
 	 * or a miniquest.
 	 */
-	public enum Type implements Predicate<QuestHelper>
+	public enum Type implements Predicate<QuestHelperQuest>
 	{
 		F2P,
 		P2P,
@@ -84,9 +74,9 @@ public interface QuestDetails
 		;
 
 		@Override
-		public boolean test(QuestHelper quest)
+		public boolean test(QuestHelperQuest quest)
 		{
-			return quest.getQuest().getQuestType() == this;
+			return quest.getQuestType() == this;
 		}
 	}
 }
@@ -36,6 +36,7 @@ import com.questhelper.questinfo.ExternalQuestResources;
 import com.questhelper.questinfo.HelperConfig;
 import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.rewards.*;
 import com.questhelper.runeliteobjects.extendedruneliteobjects.RuneliteObjectManager;
@@ -57,6 +58,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public abstract class QuestHelper implements Module, QuestDebugRenderer
 {
@@ -87,7 +89,12 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 	@Setter
 	private QuestHelperQuest quest;
 
-	@Setter
+	/**
+	 * Creates the injector used for this helper's steps. It's only created once a step needs it, as most helpers are
+	 * never started.
+	 */
+	private Supplier<Injector> injectorFactory;
+
 	private Injector injector;
 
 	@Setter
@@ -96,10 +103,33 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 
 	private boolean hasInitialized;
 
+	/**
+	 * Set once the loaded steps have been injected, so they can be reused the next time the helper is started rather
+	 * than being loaded again. Only set if every step can have its state reset.
+	 */
+	private boolean stepsCompiled;
+
 	@Getter
 	@Setter
 	protected List<Integer> sidebarOrder;
 
+	public void setInjectorFactory(Supplier<Injector> injectorFactory)
+	{
+		this.injectorFactory = injectorFactory;
+		this.injector = null;
+		this.stepsCompiled = false;
+	}
+
+	/**
+	 * Use an already created injector for this helper's steps.
+	 *
+	 * @param injector the injector to inject the steps with
+	 */
+	public void setInjector(Injector injector)
+	{
+		setInjectorFactory(() -> injector);
+	}
+
 	@Override
 	public void configure(Binder binder)
 	{
@@ -161,12 +191,96 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 		}
 	}
 
+	/**
+	 * Inject a newly loaded step graph, marking it to be reused the next time the helper is started if all of its
+	 * steps can be reset.
+	 *
+	 * @param steps the root steps of the helper
+	 */
+	protected void compileSteps(Collection<QuestStep> steps)
+	{
+		instantiateSteps(steps);
+		stepsCompiled = canResetSteps(steps);
+	}
+
+	private boolean canResetSteps(Collection<QuestStep> steps)
+	{
+		for (QuestStep step : steps)
+		{
+			if (step == null)
+			{
+				continue;
+			}
+			if (!step.canResetState())
+			{
+				return false;
+			}
+			if (step instanceof OwnerStep && !canResetSteps(((OwnerStep) step).getSteps()))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Clear the state left in a compiled step graph from the last time the helper ran, so it can be started again.
+	 *
+	 * @param steps the root steps of the helper
+	 */
+	protected void resetSteps(Collection<QuestStep> steps)
+	{
+		for (QuestStep step : steps)
+		{
+			if (step == null)
+			{
+				continue;
+			}
+			step.resetState();
+			if (step instanceof OwnerStep)
+			{
+				resetSteps(((OwnerStep) step).getSteps());
+			}
+		}
+	}
+
+	/**
+	 * @return true if the steps compiled on a previous start up can be reused
+	 */
+	protected boolean hasCompiledSteps()
+	{
+		return stepsCompiled && canReuseSteps();
+	}
+
+	/**
+	 * Whether this helper's steps can be kept between runs. Helpers which decide their steps from the player's state
+	 * at the time they're loaded, such as their skill levels, should return false so they're loaded on every start up.
+	 *
+	 * @return true if the compiled steps can be reused
+	 */
+	protected boolean canReuseSteps()
+	{
+		return true;
+	}
+
+	/**
+	 * Discard the compiled steps, so they're loaded again the next time the helper is started.
+	 */
+	public void invalidateSteps()
+	{
+		stepsCompiled = false;
+	}
+
 	public void instantiateStep(QuestStep questStep)
 	{
 		try
 		{
 			if (questStep != null)
 			{
+				if (injector == null)
+				{
+					injector = injectorFactory.get();
+				}
 				injector.injectMembers(questStep);
 			}
 		}
@@ -188,13 +302,14 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 
 	public boolean clientMeetsRequirements()
 	{
+		initializeRequirements();
 		if (getGeneralRequirements() == null)
 		{
 			return true;
 		}
 
 		return getGeneralRequirements().stream().filter(Objects::nonNull).allMatch(r ->
-			!r.shouldConsiderForFilter() || r.check(client));
+			!r.shouldConsiderForFilter() || RequirementCache.check(r, client));
 	}
 
 	@Override
@@ -256,12 +371,13 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 		hasInitialized = true;
 	}
 
-	/// Uninitialize requirements, meaning next time the quest is started it'll recreate all zones & requirements.
+	/// Uninitialize requirements, meaning next time the quest is started it'll recreate all zones, requirements & steps.
 	///
 	/// Intended for developer mode
 	public void uninitializeRequirements()
 	{
 		hasInitialized = false;
+		invalidateSteps();
 	}
 
 	public List<ItemRequirement> getItemRequirements()
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.questinfo;
+
+import net.runelite.api.Client;
+import net.runelite.api.QuestState;
+import net.runelite.api.ScriptID;
+import net.runelite.api.VarPlayer;
+import net.runelite.api.events.VarbitChanged;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the result of the quest status script for each quest, until a quest variable changes.
+ */
+public class QuestStateCache
+{
+	private static final Set<Integer> QUEST_VARBITS = Arrays.stream(QuestVarbits.values())
+		.map(QuestVarbits::getId)
+		.collect(Collectors.toSet());
+
+	private static final Set<Integer> QUEST_VARPS = new HashSet<>();
+
+	static
+	{
+		for (QuestVarPlayer varPlayer : QuestVarPlayer.values())
+		{
+			QUEST_VARPS.add(varPlayer.getId());
+		}
+		QUEST_VARPS.add(VarPlayer.QUEST_POINTS);
+	}
+
+	private static final Map<Integer, QuestState> states = new HashMap<>();
+
+	/**
+	 * Get the state of a quest, running the quest status script only if it hasn't been run since the last change to
+	 * a quest variable.
+	 *
+	 * @param client the {@link Client}
+	 * @param questId the id of the quest to look up
+	 * @return the {@link QuestState} of the quest
+	 */
+	public static QuestState getState(Client client, int questId)
+	{
+		QuestState state = states.get(questId);
+		if (state == null)
+		{
+			state = runQuestStatusScript(client, questId);
+			states.put(questId, state);
+		}
+		return state;
+	}
+
+	public static void invalidate()
+	{
+		states.clear();
+	}
+
+	public static void onVarbitChanged(VarbitChanged event)
+	{
+		if (QUEST_VARBITS.contains(event.getVarbitId()) || QUEST_VARPS.contains(event.getVarpId()))
+		{
+			invalidate();
+		}
+	}
+
+	private static QuestState runQuestStatusScript(Client client, int questId)
+	{
+		client.runScript(ScriptID.QUEST_STATUS_GET, questId);
+		switch (client.getIntStack()[0])
+		{
+			case 2:
+				return QuestState.FINISHED;
+			case 1:
+				return QuestState.NOT_STARTED;
+			default:
+				return QuestState.IN_PROGRESS;
+		}
+	}
+}
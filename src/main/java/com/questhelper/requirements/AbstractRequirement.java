@@ -83,7 +83,7 @@ public abstract class AbstractRequirement implements Requirement
 	@Override
 	public List<LineComponent> getDisplayTextWithChecks(Client client, QuestHelperConfig config)
 	{
-		if (getOverlayReplacement() != null && !this.check(client))
+		if (getOverlayReplacement() != null && !RequirementCache.check(this, client))
 		{
 			return getOverlayReplacement().getDisplayTextWithChecks(client, config);
 		}
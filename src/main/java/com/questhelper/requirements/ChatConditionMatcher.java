@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements;
+
+import com.questhelper.requirements.npc.DialogRequirement;
+import com.questhelper.util.MultiPatternMatcher;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.util.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Passes chat messages on to a set of chat and dialog requirements, searching each message for the texts of all the
+ * requirements in one pass. Requirements are only validated when one of their texts was found, or when they can
+ * change on a message which doesn't contain them.
+ */
+public class ChatConditionMatcher
+{
+	private final List<ChatMessageRequirement> chatConditions;
+	private final List<DialogRequirement> dialogConditions;
+	private final MultiPatternMatcher chatMatcher;
+	private final MultiPatternMatcher dialogMatcher;
+
+	public ChatConditionMatcher(List<ChatMessageRequirement> chatConditions, List<DialogRequirement> dialogConditions)
+	{
+		this.chatConditions = new ArrayList<>(chatConditions);
+		this.dialogConditions = new ArrayList<>(dialogConditions);
+		this.chatMatcher = new MultiPatternMatcher(this.chatConditions.stream()
+			.map(ChatMessageRequirement::getMessages)
+			.collect(Collectors.toList()));
+		this.dialogMatcher = new MultiPatternMatcher(this.dialogConditions.stream()
+			.map(DialogRequirement::getText)
+			.collect(Collectors.toList()));
+	}
+
+	public void handleChatMessage(Client client, ChatMessage chatMessage)
+	{
+		if (!chatConditions.isEmpty())
+		{
+			boolean[] matches = chatMatcher.findMatchingOwners(chatMessage.getMessage());
+			for (int i = 0; i < chatConditions.size(); i++)
+			{
+				ChatMessageRequirement requirement = chatConditions.get(i);
+				if (matches[i] || requirement.needsUnmatchedMessages())
+				{
+					requirement.validateCondition(client, chatMessage);
+				}
+			}
+		}
+
+		if (!dialogConditions.isEmpty() && chatMessage.getType() == ChatMessageType.DIALOG)
+		{
+			String sanitisedMsg = Text.sanitize(chatMessage.getMessage());
+			boolean[] matches = dialogMatcher.findMatchingOwners(sanitisedMsg);
+			for (int i = 0; i < dialogConditions.size(); i++)
+			{
+				DialogRequirement requirement = dialogConditions.get(i);
+				if (matches[i] || requirement.needsUnmatchedMessages())
+				{
+					requirement.validateSanitisedDialog(sanitisedMsg);
+				}
+			}
+		}
+	}
+}
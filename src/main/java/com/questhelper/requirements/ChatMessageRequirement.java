@@ -65,6 +65,38 @@ public class ChatMessageRequirement extends ConditionForStep
 		return hasReceivedChatMessage;
 	}
 
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		hasReceivedChatMessage = false;
+		if (condition != null)
+		{
+			condition.resetState();
+		}
+		if (invalidateRequirement != null)
+		{
+			invalidateRequirement.resetState();
+		}
+	}
+
+	/**
+	 * @return the messages which this requirement looks for in a chat message
+	 */
+	public List<String> getMessages()
+	{
+		return messages;
+	}
+
+	/**
+	 * Whether a chat message which contains none of {@link #getMessages()} can still change this requirement, such as
+	 * when it's waiting on its invalidate requirement.
+	 */
+	public boolean needsUnmatchedMessages()
+	{
+		return hasReceivedChatMessage && invalidateRequirement != null;
+	}
+
 	public boolean validateCondition(Client client, ChatMessage chatMessage)
 	{
 		// TODO: Thing worked with MesBox?!?!
@@ -26,11 +26,13 @@ package com.questhelper.requirements;
 
 import com.questhelper.requirements.util.LogicType;
 import com.questhelper.util.Utils;
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.Client;
 
 import javax.annotation.Nonnull;
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Requirement that combines multiple other {@link Requirement}s using
@@ -43,6 +45,9 @@ public class ComplexRequirement extends AbstractRequirement
 	private final LogicType logicType;
 	private final String name;
 
+	@Getter(AccessLevel.NONE)
+	private final List<Requirement> requirementList;
+
 	/**
 	 * Requirement that combines multiple other {@link Requirement}s using
 	 * {@link LogicType} to determine if the requirement(s) is/are met.
@@ -54,6 +59,7 @@ public class ComplexRequirement extends AbstractRequirement
 		assert(Utils.varargsNotNull(requirements));
 		this.name = name;
 		this.requirements = requirements;
+		this.requirementList = Arrays.asList(requirements);
 		this.logicType = LogicType.AND;
 
 		shouldCountForFilter = true;
@@ -78,6 +84,7 @@ public class ComplexRequirement extends AbstractRequirement
 		assert(Utils.varargsNotNull(requirements));
 		this.name = name;
 		this.requirements = requirements;
+		this.requirementList = Arrays.asList(requirements);
 		this.logicType = logicType;
 	}
 
@@ -88,7 +95,28 @@ public class ComplexRequirement extends AbstractRequirement
 		{
 			return false;
 		}
-		return logicType.test(Stream.of(requirements), r -> r.check(client));
+		return logicType.check(client, requirementList);
+	}
+
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		for (Requirement requirement : requirements)
+		{
+			inputs.add(requirement);
+		}
+	}
+
+	@Override
+	public void resetState()
+	{
+		for (Requirement requirement : requirements)
+		{
+			if (requirement != null)
+			{
+				requirement.resetState();
+			}
+		}
 	}
 
 	@Nonnull
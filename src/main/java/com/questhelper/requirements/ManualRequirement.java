@@ -24,14 +24,21 @@
  */
 package com.questhelper.requirements;
 
-import lombok.Setter;
 import net.runelite.api.Client;
 
 public class ManualRequirement extends SimpleRequirement
 {
-	@Setter
 	boolean shouldPass;
 
+	public void setShouldPass(boolean shouldPass)
+	{
+		if (this.shouldPass != shouldPass)
+		{
+			this.shouldPass = shouldPass;
+			RequirementCache.invalidate();
+		}
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -76,9 +76,26 @@ public class MultiChatMessageRequirement extends ChatMessageRequirement
 		return hasReceivedChatMessage;
 	}
 
+	@Override
+	public boolean needsUnmatchedMessages()
+	{
+		// The messages are held by the sub-requirements, so every message is needed until all have been seen
+		return !hasReceivedChatMessage;
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
 		return hasReceivedChatMessage;
 	}
+
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		requiredMessages.replaceAll((requirement, lastSeenTime) -> {
+			requirement.resetState();
+			return -1;
+		});
+	}
 }
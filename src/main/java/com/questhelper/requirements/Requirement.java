@@ -51,6 +51,25 @@ public interface Requirement
 	 */
 	boolean check(Client client);
 
+	/**
+	 * Add the game state read by {@link #check(Client)} to the given {@link RequirementInputs}.<br>
+	 * By default a requirement is assumed to read state which isn't tracked, and so must be checked every tick.
+	 *
+	 * @param inputs the inputs to add to
+	 */
+	default void addInputs(RequirementInputs inputs)
+	{
+		inputs.addAlwaysCheck();
+	}
+
+	/**
+	 * Clear any state this requirement has latched from events, such as having seen a chat message, so a step graph
+	 * which is reused when its helper is started again checks it from the start.
+	 */
+	default void resetState()
+	{
+	}
+
 	default boolean checkWithConfigChange(Client client, ConfigManager configManager, String configName, String value)
 	{
 		if (check(client))
@@ -94,7 +113,7 @@ public interface Requirement
 	 */
 	default Color getColor(Client client, QuestHelperConfig config)
 	{
-		return check(client) ? config.passColour() : config.failColour();
+		return RequirementCache.check(this, client) ? config.passColour() : config.failColour();
 	}
 
 	/**
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements;
+
+import net.runelite.api.Client;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Memoizes the result of {@link Requirement#check(Client)} for the current game tick.
+ * <p>
+ * The same requirement is checked many times a tick by {@link com.questhelper.steps.ConditionalStep}s, the sidebar panels
+ * and the overlays. Results are keyed by requirement identity and the client's tick count, and are thrown away whenever
+ * {@link #invalidate()} is called due to an event which may have changed the outcome of a check mid-tick.
+ * <p>
+ * Results are only cached on the client thread. Checks from any other thread fall through to the requirement itself.
+ */
+public class RequirementCache
+{
+	private static final Map<Requirement, Boolean> results = new IdentityHashMap<>();
+
+	private static int cachedTick = -1;
+
+	/**
+	 * Check the requirement, reusing the result of a previous check this tick if there is one.
+	 *
+	 * @param requirement the {@link Requirement} to check
+	 * @param client the {@link Client}
+	 * @return true if the client meets the requirement
+	 */
+	public static boolean check(Requirement requirement, Client client)
+	{
+		if (!client.isClientThread())
+		{
+			return requirement.check(client);
+		}
+
+		int tick = client.getTickCount();
+		if (tick != cachedTick)
+		{
+			results.clear();
+			cachedTick = tick;
+		}
+
+		Boolean result = results.get(requirement);
+		if (result == null)
+		{
+			result = requirement.check(client);
+			results.put(requirement, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Discard all cached results, forcing the next check of each requirement to be re-evaluated.
+	 */
+	public static void invalidate()
+	{
+		results.clear();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements;
+
+import lombok.Getter;
+import net.runelite.api.events.VarbitChanged;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The game state which is read when checking one or more {@link Requirement}s.
+ * <p>
+ * This is used by {@link com.questhelper.steps.ConditionalStep} to skip re-checking its conditions on ticks where none
+ * of the state they read has changed. Requirements which can't describe what they read mark the inputs as needing to
+ * {@link #isAlwaysCheck() always be checked}.
+ */
+@Getter
+public class RequirementInputs
+{
+	private final Set<Integer> varbits = new HashSet<>();
+	private final Set<Integer> varps = new HashSet<>();
+
+	/** Whether any of the tracked item containers are read */
+	private boolean items;
+
+	/** Whether the local player's location is read */
+	private boolean location;
+
+	/** Whether the loaded scene is read, such as whether the player is in an instance */
+	private boolean scene;
+
+	/** Whether the player's skill levels are read */
+	private boolean stats;
+
+	/** Whether state which can't be tracked is read, requiring a check every tick */
+	private boolean alwaysCheck;
+
+	public RequirementInputs add(Requirement requirement)
+	{
+		if (requirement != null)
+		{
+			requirement.addInputs(this);
+		}
+		return this;
+	}
+
+	public RequirementInputs addVarbit(int varbitId)
+	{
+		varbits.add(varbitId);
+		return this;
+	}
+
+	public RequirementInputs addVarp(int varpId)
+	{
+		varps.add(varpId);
+		return this;
+	}
+
+	public RequirementInputs addItems()
+	{
+		items = true;
+		return this;
+	}
+
+	public RequirementInputs addLocation()
+	{
+		location = true;
+		return this;
+	}
+
+	public RequirementInputs addScene()
+	{
+		scene = true;
+		return this;
+	}
+
+	public RequirementInputs addStats()
+	{
+		stats = true;
+		return this;
+	}
+
+	public RequirementInputs addAlwaysCheck()
+	{
+		alwaysCheck = true;
+		return this;
+	}
+
+	/**
+	 * @param event the {@link VarbitChanged} event
+	 * @return true if the varbit or varp which changed is one of these inputs
+	 */
+	public boolean isAffectedBy(VarbitChanged event)
+	{
+		return varbits.contains(event.getVarbitId()) || varps.contains(event.getVarpId());
+	}
+}
@@ -56,6 +56,7 @@ public class RequirementValidator
 	protected final List<NpcCondition> npcConditions = new ArrayList<>();
 	protected final List<DialogRequirement> dialogConditions = new ArrayList<>();
 	protected final List<RuneliteRequirement> runeliteConditions = new ArrayList<>();
+	private ChatConditionMatcher chatConditionMatcher;
 
 	protected List<Requirement> requirements = new ArrayList<>();
 
@@ -108,11 +109,13 @@ public class RequirementValidator
 		if (condition instanceof MultiChatMessageRequirement && !chatConditions.contains(condition))
 		{
 			chatConditions.add((MultiChatMessageRequirement) condition);
+			chatConditionMatcher = null;
 		}
 
 		if (condition instanceof ChatMessageRequirement && !chatConditions.contains(condition))
 		{
 			chatConditions.add((ChatMessageRequirement) condition);
+			chatConditionMatcher = null;
 		}
 		condition.getConditions().forEach(this::checkForChatConditions);
 	}
@@ -123,6 +126,7 @@ public class RequirementValidator
 		{
 			DialogRequirement runeliteReq = (DialogRequirement) requirement;
 			dialogConditions.add(runeliteReq);
+			chatConditionMatcher = null;
 		}
 	}
 
@@ -194,8 +198,11 @@ public class RequirementValidator
 
 	public void handleChatMessage(ChatMessage chatMessage)
 	{
-		chatConditions.forEach(requirement -> requirement.validateCondition(client, chatMessage));
-		dialogConditions.forEach(requirement -> requirement.validateCondition(chatMessage));
+		if (chatConditionMatcher == null)
+		{
+			chatConditionMatcher = new ChatConditionMatcher(chatConditions, dialogConditions);
+		}
+		chatConditionMatcher.handleChatMessage(client, chatMessage);
 	}
 
 	@Subscribe
@@ -33,6 +33,7 @@ import net.runelite.api.Client;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public abstract class ConditionForStep implements InitializableRequirement
 {
@@ -64,6 +65,15 @@ public abstract class ConditionForStep implements InitializableRequirement
 			.forEach(req -> ((InitializableRequirement) req).updateHandler());
 	}
 
+	@Override
+	public void resetState()
+	{
+		hasPassed = false;
+		conditions.stream()
+			.filter(Objects::nonNull)
+			.forEach(Requirement::resetState);
+	}
+
 	@Setter
 	private String text = "";
 
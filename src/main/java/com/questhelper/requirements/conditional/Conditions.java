@@ -25,6 +25,8 @@
 package com.questhelper.requirements.conditional;
 
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.LogicType;
 import com.questhelper.requirements.util.Operation;
 import com.questhelper.util.Utils;
@@ -45,6 +47,11 @@ public class Conditions extends ConditionForStep
 	@Setter
 	protected String text;
 
+	// The nested Conditions which contain an onlyNeedToPassOnce latch, along with the number of children they were
+	// found from, so they're found again if the children are replaced
+	private List<Conditions> latchingConditions;
+	private int latchingConditionsFrom = -1;
+
 	/**
 	 * @param conditions list of requirements that must all be met
 	 */
@@ -139,6 +146,15 @@ public class Conditions extends ConditionForStep
 		return text;
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		for (Requirement condition : conditions)
+		{
+			inputs.add(condition);
+		}
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -147,29 +163,90 @@ public class Conditions extends ConditionForStep
 			return true;
 		}
 
-		int conditionsPassed = (int) conditions.stream().filter(c -> {
-			if (c == null)
+		boolean passes;
+		if (operation != null)
+		{
+			passes = checkOperation(client);
+		}
+		// XOR has never been supported by Conditions, use ComplexRequirement instead
+		else if (logicType == null || logicType == LogicType.XOR)
+		{
+			passes = false;
+		}
+		else
+		{
+			passes = logicType.check(client, conditions);
+			if (passes)
 			{
-				return true;
+				hasPassed = true;
 			}
-			return c.check(client);
-		}).count();
+		}
 
-		if (operation != null)
+		checkLatchingConditions(client);
+		return passes;
+	}
+
+	/**
+	 * Check the nested {@link Conditions} containing an {@link #onlyNeedToPassOnce} latch, which may have been skipped
+	 * once the result was decided, as checking them is what records that they've passed. Those which were already
+	 * checked are read back from the {@link RequirementCache}.
+	 *
+	 * @param client the {@link Client}
+	 */
+	private void checkLatchingConditions(Client client)
+	{
+		List<Conditions> latching = getLatchingConditions();
+		for (int i = 0, size = latching.size(); i < size; i++)
 		{
-			return operation.check(conditionsPassed, quantity);
+			RequirementCache.check(latching.get(i), client);
 		}
+	}
+
+	/**
+	 * @return true if this or any nested {@link Conditions} only needs to pass once
+	 */
+	private boolean containsLatch()
+	{
+		return onlyNeedToPassOnce || !getLatchingConditions().isEmpty();
+	}
 
-		//TODO: Replace with LogicType check, however more testing to be done to make sure nothing breaks
-		if ((conditionsPassed > 0 && logicType == LogicType.OR)
-			|| (conditionsPassed == 0 && logicType == LogicType.NOR)
-			|| (conditionsPassed == conditions.size() && logicType == LogicType.AND)
-			|| (conditionsPassed < conditions.size() && logicType == LogicType.NAND))
+	private List<Conditions> getLatchingConditions()
+	{
+		if (latchingConditions == null || latchingConditionsFrom != conditions.size())
 		{
-			hasPassed = true;
-			return true;
+			List<Conditions> latching = new ArrayList<>();
+			for (Requirement condition : conditions)
+			{
+				if (condition instanceof Conditions && ((Conditions) condition).containsLatch())
+				{
+					latching.add((Conditions) condition);
+				}
+			}
+			latchingConditions = latching.isEmpty() ? Collections.emptyList() : latching;
+			latchingConditionsFrom = conditions.size();
+		}
+		return latchingConditions;
+	}
+
+	private boolean checkOperation(Client client)
+	{
+		int size = conditions.size();
+		int conditionsPassed = 0;
+		for (int i = 0; i < size; i++)
+		{
+			Requirement condition = conditions.get(i);
+			if (condition == null || RequirementCache.check(condition, client))
+			{
+				conditionsPassed++;
+			}
+
+			int remaining = size - i - 1;
+			if (remaining > 0 && operation.isDecided(conditionsPassed, conditionsPassed + remaining, quantity))
+			{
+				break;
+			}
 		}
 
-		return false;
+		return operation.check(conditionsPassed, quantity);
 	}
 }
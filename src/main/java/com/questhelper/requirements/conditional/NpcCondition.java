@@ -24,6 +24,7 @@
  */
 package com.questhelper.requirements.conditional;
 
+import com.questhelper.managers.NpcIndex;
 import com.questhelper.requirements.zone.Zone;
 import lombok.Setter;
 import net.runelite.api.Client;
@@ -68,7 +69,7 @@ public class NpcCondition extends ConditionForStep
 	@Override
 	public void initialize(Client client)
 	{
-		for (NPC npc : client.getTopLevelWorldView().npcs())
+		for (NPC npc : NpcIndex.getNpcs(npcID))
 		{
 			if (npcID == npc.getId())
 			{
@@ -97,6 +98,14 @@ public class NpcCondition extends ConditionForStep
 		}
 	}
 
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		npcs.clear();
+		npcInScene = false;
+	}
+
 	private boolean isInZone(Client client, NPC npc)
 	{
 		if (zone == null) return true;
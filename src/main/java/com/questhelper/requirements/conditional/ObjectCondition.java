@@ -24,12 +24,15 @@
  */
 package com.questhelper.requirements.conditional;
 
+import com.questhelper.managers.SceneObjectIndex;
 import com.questhelper.requirements.zone.Zone;
 import lombok.Setter;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
+import net.runelite.api.Point;
 import net.runelite.api.Tile;
 import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 
 import java.util.Objects;
@@ -88,6 +91,55 @@ public class ObjectCondition extends ConditionForStep
 
 		tiles = client.getScene().getTiles()[client.getPlane()];
 
+		// Any object matches, so there's no id to look up in the index
+		if (objectIDs.contains(-1))
+		{
+			return checkAllTiles(tiles, client);
+		}
+
+		int plane = client.getPlane();
+		for (int objectID : objectIDs)
+		{
+			for (TileObject object : SceneObjectIndex.getObjects(objectID))
+			{
+				if (object.getPlane() == plane && checkIndexedObject(object, tiles, client))
+				{
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private boolean checkIndexedObject(TileObject object, Tile[][] tiles, Client client)
+	{
+		if (!(object instanceof GameObject))
+		{
+			return !onlyCheckGameObjects && isInRange(object.getLocalLocation(), client);
+		}
+
+		// Game objects can cover multiple tiles, any of which can be in range
+		GameObject gameObject = (GameObject) object;
+		Point min = gameObject.getSceneMinLocation();
+		Point max = gameObject.getSceneMaxLocation();
+		for (int x = Math.max(min.getX(), 0); x <= Math.min(max.getX(), SCENE_SIZE - 1); x++)
+		{
+			for (int y = Math.max(min.getY(), 0); y <= Math.min(max.getY(), SCENE_SIZE - 1); y++)
+			{
+				Tile tile = tiles[x][y];
+				if (tile != null && isInRange(tile.getLocalLocation(), client))
+				{
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private boolean checkAllTiles(Tile[][] tiles, Client client)
+	{
 		for (int x = 0; x < SCENE_SIZE; x++)
 		{
 			for (int y = 0; y < SCENE_SIZE; y++)
@@ -99,24 +151,27 @@ public class ObjectCondition extends ConditionForStep
 			}
 		}
 
-
 		return false;
 	}
 
+	private boolean isInRange(LocalPoint localPoint, Client client)
+	{
+		WorldPoint wp = WorldPoint.fromLocalInstance(client, localPoint);
+		if (zone != null && !zone.contains(wp)) return false;
+
+		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+		return maxDistanceFromPlayer == -1 ||
+			(playerLocation.distanceTo(wp) < maxDistanceFromPlayer);
+	}
+
 	private boolean checkTile(Tile tile, Client client)
 	{
 		if (tile == null)
 		{
 			return false;
 		}
-		WorldPoint wp = WorldPoint.fromLocalInstance(client, tile.getLocalLocation());
-		if (zone != null && !zone.contains(wp)) return false;
-
-		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-		boolean playerClose = maxDistanceFromPlayer == -1 ||
-			(playerLocation.distanceTo(wp) < maxDistanceFromPlayer);
 
-		if (!playerClose) return false;
+		if (!isInRange(tile.getLocalLocation(), client)) return false;
 
 		for (GameObject object : tile.getGameObjects())
 		{
@@ -32,12 +32,13 @@ public class ContainerStateForRequirement
     @Getter
     private int matchesFound;
 
+    // version of the container when matchesFound was calculated
     @Getter
-    private int lastCheckedTick = -2;
+    private int lastCheckedVersion = -1;
 
-    public void set(int matchesFound, int currentTick)
+    public void set(int matchesFound, int containerVersion)
     {
         this.matchesFound = matchesFound;
-        this.lastCheckedTick = currentTick;
+        this.lastCheckedVersion = containerVersion;
     }
 }
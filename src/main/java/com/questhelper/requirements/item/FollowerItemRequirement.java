@@ -27,6 +27,7 @@
 package com.questhelper.requirements.item;
 
 import com.questhelper.collections.ItemCollections;
+import com.questhelper.requirements.RequirementInputs;
 import net.runelite.api.Client;
 
 import java.util.List;
@@ -79,4 +80,10 @@ public class FollowerItemRequirement extends ItemRequirement
 
 		return super.check(client);
 	}
+
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addAlwaysCheck();
+	}
 }
@@ -31,10 +31,13 @@ import com.questhelper.bank.QuestBank;
 import com.questhelper.collections.ItemCollections;
 import com.questhelper.collections.ItemWithCharge;
 import com.questhelper.managers.ItemAndLastUpdated;
+import com.questhelper.managers.ItemCounts;
 import com.questhelper.managers.QuestContainerManager;
 import com.questhelper.requirements.AbstractRequirement;
 import com.questhelper.requirements.ManualRequirement;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.conditional.Conditions;
 import com.questhelper.requirements.util.LogicType;
 import lombok.Getter;
@@ -65,7 +68,6 @@ public class ItemRequirement extends AbstractRequirement
 	/**
 	 * The primary item id for this requirement.
 	 */
-	@Setter
 	@Getter
 	private int id;
 
@@ -160,6 +162,26 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	protected Requirement additionalOptions;
 
+	/**
+	 * The distinct ids of the primary item and its alternates, built when first needed.
+	 */
+	private int[] distinctIds;
+
+	private static final ItemAndLastUpdated[] EQUIPPED_CONTAINERS = {
+		QuestContainerManager.getEquippedData()
+	};
+	private static final ItemAndLastUpdated[] ON_PLAYER_CONTAINERS = {
+		QuestContainerManager.getEquippedData(), QuestContainerManager.getInventoryData()
+	};
+	private static final ItemAndLastUpdated[] EQUIPPED_AND_BANK_CONTAINERS = {
+		QuestContainerManager.getEquippedData(), QuestContainerManager.getBankData(),
+		QuestContainerManager.getPotionData(), QuestContainerManager.getGroupStorageData()
+	};
+	private static final ItemAndLastUpdated[] ON_PLAYER_AND_BANK_CONTAINERS = {
+		QuestContainerManager.getEquippedData(), QuestContainerManager.getInventoryData(), QuestContainerManager.getBankData(),
+		QuestContainerManager.getPotionData(), QuestContainerManager.getGroupStorageData()
+	};
+
 	/**
 	 * Stores the last known state for each container type for this requirement.
 	 */
@@ -323,6 +345,17 @@ public class ItemRequirement extends AbstractRequirement
 		this.addAlternates(itemCollection.getItems().subList(1, itemCollection.getItems().size()));
 	}
 
+	/**
+	 * Sets the primary item id for this requirement.
+	 *
+	 * @param id the new primary item id
+	 */
+	public void setId(int id)
+	{
+		this.id = id;
+		distinctIds = null;
+	}
+
 	/**
 	 * Adds a list of alternate item ids to this requirement.
 	 *
@@ -331,6 +364,7 @@ public class ItemRequirement extends AbstractRequirement
 	public void addAlternates(List<Integer> alternates)
 	{
 		this.alternateItems.addAll(alternates);
+		distinctIds = null;
 	}
 
 	/**
@@ -341,6 +375,7 @@ public class ItemRequirement extends AbstractRequirement
 	public void addAlternates(ItemCollections alternates)
 	{
 		this.alternateItems.addAll(alternates.getItems());
+		distinctIds = null;
 	}
 
 	/**
@@ -351,6 +386,7 @@ public class ItemRequirement extends AbstractRequirement
 	public void addAlternates(Integer... alternates)
 	{
 		this.alternateItems.addAll(Arrays.asList(alternates));
+		distinctIds = null;
 	}
 
 	/**
@@ -681,7 +717,7 @@ public class ItemRequirement extends AbstractRequirement
 	@Override
 	public boolean shouldDisplayText(Client client)
 	{
-		return conditionToHide == null || !conditionToHide.check(client);
+		return conditionToHide == null || !RequirementCache.check(conditionToHide, client);
 	}
 
 	/**
@@ -699,7 +735,7 @@ public class ItemRequirement extends AbstractRequirement
 		{
 			color = Color.GRAY;
 		}
-		else if (additionalOptions != null && additionalOptions.check(client))
+		else if (additionalOptions != null && RequirementCache.check(additionalOptions, client))
 		{
 			color = config.passColour();
 		}
@@ -792,7 +828,7 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	public boolean checkItems(Client client, List<Item> items)
 	{
-		return getMaxMatchingItems(items.toArray(new Item[0])) >= quantity;
+		return getMaxMatchingItems(new ItemCounts(items.toArray(new Item[0]))) >= quantity;
 	}
 
 	/**
@@ -809,28 +845,22 @@ public class ItemRequirement extends AbstractRequirement
 		// we need to aggregate all the results.
 		for (ItemAndLastUpdated container : containers)
 		{
-			if (container.getItems() == null)
-			{
-				continue;
-			}
-			ContainerStateForRequirement stateForItemInContainer = knownContainerStates.get(container.getContainerType());
 			// Generic container, always check
 			if (container.getContainerType() == TrackedContainers.UNDEFINED)
 			{
-				totalFound += getMaxMatchingItems(container.getItems());
-			}
-			else if (stateForItemInContainer.getLastCheckedTick() <= container.getLastUpdated())
-			{
-				int matchesInContainer = getMaxMatchingItems(container.getItems());
-				// Update the container state (won't represent the actual last checked tick,
-				// but ensures it's after the current state for comparison)
-				stateForItemInContainer.set(matchesInContainer, container.getLastUpdated() + 1);
-				totalFound += matchesInContainer;
+				totalFound += getMaxMatchingItems(container.getItemCounts());
+				continue;
 			}
-			else
+
+			// Compare versions before touching the items, so unchanged containers are never read
+			ContainerStateForRequirement stateForItemInContainer = knownContainerStates.get(container.getContainerType());
+			int containerVersion = container.getVersion();
+			if (stateForItemInContainer.getLastCheckedVersion() != containerVersion)
 			{
-				totalFound += stateForItemInContainer.getMatchesFound();
+				int matchesInContainer = getMaxMatchingItems(container.getItemCounts());
+				stateForItemInContainer.set(matchesInContainer, containerVersion);
 			}
+			totalFound += stateForItemInContainer.getMatchesFound();
 		}
 
 		return totalFound;
@@ -866,7 +896,7 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	public boolean checkWithAllContainers()
 	{
-		return checkContainers(QuestContainerManager.getOrderedListOfContainers().toArray(new ItemAndLastUpdated[0]));
+		return checkContainers(QuestContainerManager.getOrderedContainers());
 	}
 
 	/**
@@ -954,48 +984,96 @@ public class ItemRequirement extends AbstractRequirement
 	public boolean check(Client client)
 	{
 		// If additional options are present and pass, then the requirement is met.
-		if (additionalOptions != null && additionalOptions.check(client))
+		if (additionalOptions != null && RequirementCache.check(additionalOptions, client))
 		{
 			return true;
 		}
 
-		List<ItemAndLastUpdated> containers = new ArrayList<>();
-		containers.add(QuestContainerManager.getEquippedData());
+		return checkContainers(getContainersToCheck());
+	}
 
-		if (!equip)
-		{
-			containers.add(QuestContainerManager.getInventoryData());
-		}
-		if (shouldCheckBank)
+	/**
+	 * Gets the containers which {@link #check(Client)} should look in, based on whether the item must be equipped
+	 * and whether the bank should be checked.
+	 *
+	 * @return an array of {@link ItemAndLastUpdated} which must not be modified
+	 */
+	private ItemAndLastUpdated[] getContainersToCheck()
+	{
+		if (equip)
 		{
-			containers.add(QuestContainerManager.getBankData());
-			containers.add(QuestContainerManager.getPotionData());
-			containers.add(QuestContainerManager.getGroupStorageData());
+			return shouldCheckBank ? EQUIPPED_AND_BANK_CONTAINERS : EQUIPPED_CONTAINERS;
 		}
+		return shouldCheckBank ? ON_PLAYER_AND_BANK_CONTAINERS : ON_PLAYER_CONTAINERS;
+	}
 
-		return checkContainers(containers.toArray(new ItemAndLastUpdated[0]));
+	/**
+	 * Adds the tracked item containers, along with the inputs of any additional options, to the given inputs.
+	 *
+	 * @param inputs the {@link RequirementInputs} to add to
+	 */
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addItems();
+		inputs.add(additionalOptions);
 	}
 
 	/**
-	 * Determines the maximum number of matching items from the given array.
+	 * Determines the maximum number of matching items from the given item counts.
 	 *
-	 * @param items an array of {@link Item} objects to evaluate
+	 * @param itemCounts the {@link ItemCounts} of a container to evaluate
 	 * @return the total count of matching items found
 	 */
-	private int getMaxMatchingItems(@NonNull Item[] items)
+	private int getMaxMatchingItems(@NonNull ItemCounts itemCounts)
 	{
-		List<Item> allItems = new ArrayList<>(List.of(items));
-
 		int foundQuantity = 0;
-		List<Integer> ids = getAllIds();
-		for (int alternate : ids)
+		for (int alternate : getDistinctIds())
 		{
-			foundQuantity += getNumberOfItemFound(alternate, allItems);
+			foundQuantity += getNumMatches(itemCounts, alternate);
 		}
 
 		return foundQuantity;
 	}
 
+	/**
+	 * Counts the number of matches for a specific item id in the given item counts.
+	 * <p>
+	 * If the item is charged, each matching item counts for its charges; otherwise, the item quantities are summed.
+	 * </p>
+	 *
+	 * @param itemCounts the {@link ItemCounts} to look in
+	 * @param itemID the item id to match
+	 * @return the total quantity or charge count for the matching items
+	 */
+	private int getNumMatches(ItemCounts itemCounts, int itemID)
+	{
+		if (isChargedItem)
+		{
+			ItemWithCharge itemWithCharge = ItemWithCharge.findItem(itemID);
+			if (itemWithCharge != null)
+			{
+				return itemCounts.getStacks(itemID) * itemWithCharge.getCharges();
+			}
+		}
+
+		return itemCounts.getQuantity(itemID);
+	}
+
+	/**
+	 * Retrieves the ids from {@link #getAllIds()} as an array, cached until the ids of this requirement change.
+	 *
+	 * @return an array of item ids which must not be modified
+	 */
+	public int[] getDistinctIds()
+	{
+		if (distinctIds == null)
+		{
+			distinctIds = getAllIds().stream().mapToInt(Integer::intValue).toArray();
+		}
+		return distinctIds;
+	}
+
 	/**
 	 * Calculates the number of items found for the specified item id in the given list.
 	 * Any value <= 0 indicates the required quantity is not met.
@@ -1076,7 +1154,7 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	public boolean shouldRenderItemHighlights(Client client)
 	{
-		return conditionToHide == null || !conditionToHide.check(client);
+		return conditionToHide == null || !RequirementCache.check(conditionToHide, client);
 	}
 
 	/**
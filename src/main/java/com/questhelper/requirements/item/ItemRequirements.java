@@ -29,6 +29,7 @@ package com.questhelper.requirements.item;
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.managers.ItemAndLastUpdated;
 import com.questhelper.questhelpers.QuestUtil;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.LogicType;
 import com.questhelper.util.Utils;
 import lombok.Getter;
@@ -60,6 +61,16 @@ public class ItemRequirements extends ItemRequirement
 	@Getter
 	private final LogicType logicType;
 
+	/**
+	 * The ids of each aggregated item requirement, as they were when {@link #distinctIds} was built.
+	 */
+	private int[][] distinctIdsOfRequirements;
+
+	/**
+	 * The ids of all aggregated item requirements, built when first needed.
+	 */
+	private int[] distinctIds;
+
 	/**
 	 * Constructs an ItemRequirements instance with no name and a default logical operator (AND).
 	 *
@@ -178,6 +189,13 @@ public class ItemRequirements extends ItemRequirement
 	@Override
 	public boolean check(Client client)
 	{
+		// Null requirements never pass, as with the comparison below.
+		// XOR is left to the comparison, as it doesn't match LogicType#check.
+		if (logicType != LogicType.XOR)
+		{
+			return logicType.check(client, itemRequirements, false);
+		}
+
 		Predicate<ItemRequirement> predicate = r -> r.check(client);
 		int successes = (int) itemRequirements.stream()
 				.filter(Objects::nonNull)
@@ -186,6 +204,21 @@ public class ItemRequirements extends ItemRequirement
 		return logicType.compare(successes, itemRequirements.size());
 	}
 
+	/**
+	 * Adds the inputs of each aggregated item requirement to the given inputs.
+	 *
+	 * @param inputs the {@link RequirementInputs} to add to
+	 */
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		super.addInputs(inputs);
+		for (ItemRequirement itemRequirement : itemRequirements)
+		{
+			inputs.add(itemRequirement);
+		}
+	}
+
 	/**
 	 * Determines the display color for this item requirement based on the client's progress.
 	 * <p>
@@ -362,6 +395,55 @@ public class ItemRequirements extends ItemRequirement
 				.collect(QuestUtil.collectToArrayList());
 	}
 
+	/**
+	 * Retrieves the ids from {@link #getAllIds()} as an array, cached until the aggregated item requirements or their
+	 * ids change.
+	 *
+	 * @return an array of item ids which must not be modified
+	 */
+	@Override
+	public int[] getDistinctIds()
+	{
+		if (distinctIds == null || !distinctIdsOfRequirementsMatch())
+		{
+			int size = itemRequirements.size();
+			int totalIds = 0;
+			distinctIdsOfRequirements = new int[size][];
+			for (int i = 0; i < size; i++)
+			{
+				distinctIdsOfRequirements[i] = itemRequirements.get(i).getDistinctIds();
+				totalIds += distinctIdsOfRequirements[i].length;
+			}
+
+			distinctIds = new int[totalIds];
+			int offset = 0;
+			for (int[] ids : distinctIdsOfRequirements)
+			{
+				System.arraycopy(ids, 0, distinctIds, offset, ids.length);
+				offset += ids.length;
+			}
+		}
+		return distinctIds;
+	}
+
+	private boolean distinctIdsOfRequirementsMatch()
+	{
+		int size = itemRequirements.size();
+		if (size != distinctIdsOfRequirements.length)
+		{
+			return false;
+		}
+		// An item requirement builds a new array whenever its ids change
+		for (int i = 0; i < size; i++)
+		{
+			if (itemRequirements.get(i).getDistinctIds() != distinctIdsOfRequirements[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Marks all aggregated item requirements as equipped and returns a new instance with the equipped flag set.
 	 *
@@ -26,6 +26,7 @@ package com.questhelper.requirements.item;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.collections.KeyringCollection;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.runelite.RuneliteRequirement;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -107,6 +108,12 @@ public class KeyringRequirement extends ItemRequirement
 		return super.check(client);
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addAlwaysCheck();
+	}
+
 	public boolean hasKeyOnKeyRing()
 	{
 		return runeliteRequirement.check();
@@ -75,25 +75,57 @@ public class DialogRequirement extends SimpleRequirement
 		return hasSeenDialog;
 	}
 
+	@Override
+	public void resetState()
+	{
+		hasSeenDialog = false;
+	}
+
+	/**
+	 * @return the texts which this requirement looks for in a sanitised dialog message
+	 */
+	public List<String> getText()
+	{
+		return text;
+	}
+
+	/**
+	 * Whether a dialog message which contains none of {@link #getText()} can still change this requirement, which is
+	 * the case when it has been seen but must still be the active dialog.
+	 */
+	public boolean needsUnmatchedMessages()
+	{
+		return hasSeenDialog && mustBeActive;
+	}
+
 	public void validateCondition(ChatMessage chatMessage)
 	{
 		if (chatMessage.getType() != ChatMessageType.DIALOG) return;
 
-		String dialogMessage = chatMessage.getMessage();
+		validateSanitisedDialog(Text.sanitize(chatMessage.getMessage()));
+	}
+
+	/**
+	 * Validate against a dialog message which has already been passed through {@link Text#sanitize(String)}, so a
+	 * message checked by many requirements only needs sanitising once.
+	 *
+	 * @param sanitisedMsg the sanitised message of a {@link ChatMessageType#DIALOG} chat message
+	 */
+	public void validateSanitisedDialog(String sanitisedMsg)
+	{
 		if (!hasSeenDialog)
 		{
-			hasSeenDialog = isCurrentDialogMatching(dialogMessage);
+			hasSeenDialog = isCurrentDialogMatching(sanitisedMsg);
 		}
 		// If it's not the dialog,
 		else if (mustBeActive)
 		{
-			hasSeenDialog = isCurrentDialogMatching(dialogMessage);
+			hasSeenDialog = isCurrentDialogMatching(sanitisedMsg);
 		}
 	}
 
-	private boolean isCurrentDialogMatching(String dialogMessage)
+	private boolean isCurrentDialogMatching(String sanitisedMsg)
 	{
-		String sanitisedMsg = Text.sanitize(dialogMessage);
 		if (talkerName != null && !sanitisedMsg.contains(talkerName + "|")) return false;
 		return text.stream().anyMatch(sanitisedMsg::contains);
 	}
@@ -26,6 +26,7 @@
  */
 package com.questhelper.requirements.npc;
 
+import com.questhelper.managers.NpcIndex;
 import com.questhelper.requirements.AbstractRequirement;
 import com.questhelper.requirements.zone.Zone;
 import lombok.Setter;
@@ -131,8 +132,7 @@ public class NpcRequirement extends AbstractRequirement
 	@Override
 	public boolean check(Client client)
 	{
-		List<NPC> found = client.getTopLevelWorldView().npcs().stream()
-			.filter(npc -> npc.getId() == npcID || npc.getComposition().getId() == npcID)
+		List<NPC> found = NpcIndex.getNpcs(npcID).stream()
 			.filter(npc -> npcName == null || (npc.getName() != null && npc.getName().equals(npcName)))
 			.collect(Collectors.toList());
 
@@ -27,6 +27,7 @@
 
 package com.questhelper.requirements.player;
 
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.SimpleRequirement;
 import net.runelite.api.Client;
 
@@ -37,4 +38,10 @@ public class InInstanceRequirement extends SimpleRequirement
 	{
 		return client.isInInstancedRegion();
 	}
+
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addScene();
+	}
 }
@@ -30,6 +30,7 @@ package com.questhelper.requirements.player;
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.QuestHelperPlugin;
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -167,6 +168,12 @@ public class SkillRequirement extends AbstractRequirement
 		return BoostStatus.Fail;
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addStats();
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
@@ -29,6 +29,7 @@ package com.questhelper.requirements.quest;
 
 import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import lombok.Getter;
 import net.runelite.api.Client;
 import net.runelite.api.QuestState;
@@ -121,6 +122,12 @@ public class QuestRequirement extends AbstractRequirement
 		return state == requiredState;
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		quest.addInputs(inputs);
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
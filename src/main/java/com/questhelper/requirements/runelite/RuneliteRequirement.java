@@ -25,6 +25,7 @@
 package com.questhelper.requirements.runelite;
 
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RuneliteStateStore;
 import com.questhelper.requirements.AbstractRequirement;
 import com.questhelper.requirements.Requirement;
 import lombok.Getter;
@@ -53,6 +54,8 @@ public class RuneliteRequirement extends AbstractRequirement
 
 	protected String initValue;
 
+	private RuneliteStateStore.Entry entry;
+
 	public RuneliteRequirement(ConfigManager configManager, String id, String expectedValue, String text, Map<String, Requirement> requirements)
 	{
 		this(configManager, id, "false", expectedValue, text, requirements);
@@ -134,6 +137,15 @@ public class RuneliteRequirement extends AbstractRequirement
 		});
 	}
 
+	/**
+	 * Only the requirements which set the value are reset, as the value itself is kept in config between runs.
+	 */
+	@Override
+	public void resetState()
+	{
+		requirements.values().forEach(Requirement::resetState);
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
@@ -153,24 +165,33 @@ public class RuneliteRequirement extends AbstractRequirement
 
 	public String getConfigValue()
 	{
-		String value = configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier);
+		String value = getEntry().getValue();
 		if (initValue != null && value == null)
 		{
 			setConfigValue(initValue);
 			return initValue;
 		}
-		return configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier);
+		return value;
 	}
 
 	public void setConfigValue(String obj)
 	{
-		if (configManager.getRSProfileKey() == null) return;
-		configManager.setRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier, obj);
+		// Unchanged values are dropped, and changed ones are written to the ConfigManager in batches
+		RuneliteStateStore.setValue(configManager, runeliteIdentifier, obj);
 	}
 
 	public boolean configExists()
 	{
-		return configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier) != null;
+		return getEntry().getValue() != null;
+	}
+
+	private RuneliteStateStore.Entry getEntry()
+	{
+		if (entry == null || !entry.isCurrent())
+		{
+			entry = RuneliteStateStore.getEntry(configManager, runeliteIdentifier);
+		}
+		return entry;
 	}
 
 	public void initWithValue(String value)
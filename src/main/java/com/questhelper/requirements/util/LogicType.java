@@ -26,6 +26,11 @@
  */
 package com.questhelper.requirements.util;
 
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
+import net.runelite.api.Client;
+
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -61,6 +66,60 @@ public enum LogicType
 		return function.apply(stream, predicate);
 	}
 
+	/**
+	 * Check the requirements in order, stopping at the first one which decides the result.
+	 * Null requirements are treated as passing.
+	 *
+	 * @param client the {@link Client}
+	 * @param requirements the requirements to check
+	 * @return true if the requirements pass this logic type
+	 */
+	public boolean check(Client client, List<? extends Requirement> requirements)
+	{
+		return check(client, requirements, true);
+	}
+
+	/**
+	 * Check the requirements in order, stopping at the first one which decides the result.
+	 *
+	 * @param client the {@link Client}
+	 * @param requirements the requirements to check
+	 * @param nullsPass whether null requirements are treated as passing, or as failing
+	 * @return true if the requirements pass this logic type
+	 */
+	public boolean check(Client client, List<? extends Requirement> requirements, boolean nullsPass)
+	{
+		int size = requirements.size();
+		if (this == XOR)
+		{
+			int passed = 0;
+			for (int i = 0; i < size; i++)
+			{
+				if (passes(client, requirements.get(i), nullsPass) && ++passed > 1)
+				{
+					return false;
+				}
+			}
+			return passed == 1;
+		}
+
+		// AND and NAND are decided by the first failing requirement, OR and NOR by the first passing one
+		boolean decidingValue = this == OR || this == NOR;
+		for (int i = 0; i < size; i++)
+		{
+			if (passes(client, requirements.get(i), nullsPass) == decidingValue)
+			{
+				return this == OR || this == NAND;
+			}
+		}
+		return this == AND || this == NOR;
+	}
+
+	private static boolean passes(Client client, Requirement requirement, boolean nullsPass)
+	{
+		return requirement == null ? nullsPass : RequirementCache.check(requirement, client);
+	}
+
 	public boolean compare(Number numberToCheck, Number numberToCheckAgainst)
 	{
 		return comparatorFunction.apply(numberToCheck, numberToCheckAgainst);
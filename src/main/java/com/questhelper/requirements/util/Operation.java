@@ -50,4 +50,23 @@ public enum Operation
 	public boolean check(int numberToCheck, int numberToCheckAgainst) {
 		return operation.apply(numberToCheck, numberToCheckAgainst);
 	}
+
+	/**
+	 * Checks if this operation gives the same result for every number between min and max, inclusive.
+	 *
+	 * @param min the lowest number which could be checked
+	 * @param max the highest number which could be checked
+	 * @param numberToCheckAgainst the number to check against
+	 * @return true if the result can no longer change within the range
+	 */
+	public boolean isDecided(int min, int max, int numberToCheckAgainst) {
+		if (min == max) {
+			return true;
+		}
+		if (check(min, numberToCheckAgainst) != check(max, numberToCheckAgainst)) {
+			return false;
+		}
+		// EQUAL and NOT_EQUAL can still flip when the number lies strictly inside the range
+		return numberToCheckAgainst <= min || numberToCheckAgainst >= max;
+	}
 }
@@ -25,6 +25,7 @@
 package com.questhelper.requirements.var;
 
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import com.questhelper.util.Utils;
 import lombok.Getter;
@@ -94,6 +95,25 @@ public class VarComparisonRequirement extends AbstractRequirement
         }
     }
 
+    @Override
+    public void addInputs(RequirementInputs inputs)
+    {
+        addInput(inputs, v1Type, v1Id);
+        addInput(inputs, v2Type, v2Id);
+    }
+
+    private void addInput(RequirementInputs inputs, VarType type, int id)
+    {
+        if (type == VarType.VARBIT)
+        {
+            inputs.addVarbit(id);
+        }
+        else
+        {
+            inputs.addVarp(id);
+        }
+    }
+
     @Nonnull
     @Override
     public String getDisplayText()
@@ -28,6 +28,7 @@
 package com.questhelper.requirements.var;
 
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import com.questhelper.util.Utils;
 import lombok.Getter;
@@ -174,6 +175,12 @@ public class VarbitRequirement extends AbstractRequirement
 		}
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addVarbit(varbitID);
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
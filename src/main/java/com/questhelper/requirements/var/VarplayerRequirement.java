@@ -27,6 +27,7 @@
 package com.questhelper.requirements.var;
 
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import net.runelite.api.Client;
 
@@ -167,6 +168,12 @@ public class VarplayerRequirement extends AbstractRequirement
 		return values.stream().anyMatch(value -> operation.check(varpValue, value));
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addVarp(varPlayerID);
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
@@ -29,6 +29,7 @@ package com.questhelper.requirements.zone;
 
 import com.questhelper.questhelpers.QuestUtil;
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.util.Utils;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -113,6 +114,12 @@ public class ZoneRequirement extends AbstractRequirement
 		return false;
 	}
 
+	@Override
+	public void addInputs(RequirementInputs inputs)
+	{
+		inputs.addLocation();
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
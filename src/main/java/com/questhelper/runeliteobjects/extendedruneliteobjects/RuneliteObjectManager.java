@@ -27,6 +27,7 @@ package com.questhelper.runeliteobjects.extendedruneliteobjects;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.questhelper.managers.NpcIndex;
 import com.questhelper.steps.widget.WidgetDetails;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Menu;
@@ -86,6 +87,14 @@ public class RuneliteObjectManager
 
 	ExtendedRuneliteObject lastInteractedWithRuneliteObject;
 
+	// NPCs keyed by the tile they're on, so checking whether a fake NPC's tile is occupied doesn't scan every NPC.
+	// NPCs only change tile on a game tick, so this is updated then and on spawns and despawns.
+	private final Map<WorldPoint, List<NPC>> npcsByTile = new HashMap<>();
+	private final Map<NPC, WorldPoint> npcTiles = new HashMap<>();
+
+	// Objects under the mouse on this client tick which may add menu options, so menu entries only check these
+	private final List<ExtendedRuneliteObject> hoveredObjects = new ArrayList<>();
+
 	private static final List<MenuAction> OBJECT_MENU_TYPES = ImmutableList.of(
 		MenuAction.GAME_OBJECT_FIRST_OPTION,
 		MenuAction.GAME_OBJECT_SECOND_OPTION,
@@ -132,6 +141,10 @@ public class RuneliteObjectManager
 	{
 		disableRuneliteObjects();
 		runeliteObjectGroups.clear();
+		hoveredObjects.clear();
+		// Repopulated from the scene on the next game tick, so no despawned NPCs are held on to while shut down
+		npcsByTile.clear();
+		npcTiles.clear();
 	}
 
 	private void disableRuneliteObjects()
@@ -170,7 +183,7 @@ public class RuneliteObjectManager
 		String groupID = "global";
 		ReplacedNpc extendedRuneliteObject = new ReplacedNpc(client, clientThread, wp, model, npcIDToReplace);
 		// Should this be here or a separate 'activate' step?
-		for (NPC clientNpc : client.getTopLevelWorldView().npcs())
+		for (NPC clientNpc : NpcIndex.getNpcs(npcIDToReplace))
 		{
 			if (clientNpc.getId() == npcIDToReplace)
 			{
@@ -189,7 +202,7 @@ public class RuneliteObjectManager
 	{
 		ReplacedNpc extendedRuneliteObject = new ReplacedNpc(client, clientThread, wp, model, npcIDToReplace);
 		// Should this be here or a separate 'activate' step?
-		for (NPC clientNpc : client.getTopLevelWorldView().npcs())
+		for (NPC clientNpc : NpcIndex.getNpcs(npcIDToReplace))
 		{
 			if (clientNpc.getId() == npcIDToReplace)
 			{
@@ -345,17 +358,25 @@ public class RuneliteObjectManager
 			}
 		}
 
-		List<ExtendedRuneliteObject> objs = new ArrayList<>();
-		runeliteObjectGroups.forEach((groupID, runeliteObjectGroup) -> {
-			objs.addAll(runeliteObjectGroup.extendedRuneliteObjects);
-		});
-
-		for (ExtendedRuneliteObject obj : objs)
+		for (ExtendedRuneliteObject obj : hoveredObjects)
 		{
 			setupMenuOptions(obj, event);
 		}
 	}
 
+	private boolean canAddMenuOptions(ExtendedRuneliteObject extendedRuneliteObject)
+	{
+		if (!extendedRuneliteObject.isRuneliteObjectActive()) return false;
+		if (extendedRuneliteObject.getMenuActions().isEmpty() && !(extendedRuneliteObject instanceof ReplacedNpc))
+		{
+			return false;
+		}
+		return !extendedRuneliteObject.isHiddenNoOptions()
+			&& extendedRuneliteObject.getRuneliteObject() != null
+			&& extendedRuneliteObject.getRuneliteObject().getModel() != null
+			&& isMouseOverObject(extendedRuneliteObject);
+	}
+
 	private void copyMenuEntry(ExtendedRuneliteObject extendedRuneliteObject, MenuEntryAdded event, NPC npc)
 	{
 		if (extendedRuneliteObject instanceof ReplacedNpc)
@@ -699,37 +720,80 @@ public class RuneliteObjectManager
 		}
 	}
 
-	private boolean isNpcOnTile(ExtendedRuneliteObject extendedRuneliteObject)
+	private boolean isNpcOnTile(ExtendedRuneliteObject extendedRuneliteObject, WorldPoint rlObjWp)
 	{
-		for (NPC npc : client.getTopLevelWorldView().npcs())
+		List<NPC> npcsOnTile = npcsByTile.get(rlObjWp);
+		if (npcsOnTile == null)
 		{
-			WorldPoint wpNpc = npc.getWorldLocation();
-			WorldPoint rlObjWp = WorldPoint.fromLocalInstance(client, extendedRuneliteObject.getRuneliteObject().getLocation());
-			if (wpNpc != null && wpNpc.distanceTo(rlObjWp) == 0)
+			return false;
+		}
+
+		for (NPC npc : npcsOnTile)
+		{
+			if (extendedRuneliteObject instanceof ReplacedNpc)
 			{
-				if (extendedRuneliteObject instanceof ReplacedNpc)
+				if (npc == ((ReplacedNpc) extendedRuneliteObject).getNpc())
 				{
-					if (npc == ((ReplacedNpc) extendedRuneliteObject).getNpc())
-					{
-						continue;
-					}
+					continue;
 				}
-				return true;
 			}
+			return true;
 		}
 
 		return false;
 	}
 
-	private boolean isPlayerOnTile(ExtendedRuneliteObject extendedRuneliteObject, WorldPoint playerPosition)
+	private boolean isPlayerOnTile(WorldPoint rlObjWp, WorldPoint playerPosition)
 	{
-		WorldPoint rlObjWp = WorldPoint.fromLocalInstance(client, extendedRuneliteObject.getRuneliteObject().getLocation());
 		return playerPosition.distanceTo(rlObjWp) == 0;
 	}
 
+	private void updateNpcTiles()
+	{
+		for (NPC npc : client.getTopLevelWorldView().npcs())
+		{
+			if (!Objects.equals(npcTiles.get(npc), npc.getWorldLocation()))
+			{
+				removeNpcTile(npc);
+				addNpcTile(npc);
+			}
+		}
+	}
+
+	private void addNpcTile(NPC npc)
+	{
+		WorldPoint wp = npc.getWorldLocation();
+		if (wp == null)
+		{
+			return;
+		}
+		npcTiles.put(npc, wp);
+		npcsByTile.computeIfAbsent(wp, (tile) -> new ArrayList<>(1)).add(npc);
+	}
+
+	private void removeNpcTile(NPC npc)
+	{
+		WorldPoint wp = npcTiles.remove(npc);
+		if (wp == null)
+		{
+			return;
+		}
+		List<NPC> npcsOnTile = npcsByTile.get(wp);
+		if (npcsOnTile != null)
+		{
+			npcsOnTile.remove(npc);
+			if (npcsOnTile.isEmpty())
+			{
+				npcsByTile.remove(wp);
+			}
+		}
+	}
+
 	@Subscribe
 	public void onNpcSpawned(NpcSpawned event)
 	{
+		removeNpcTile(event.getNpc());
+		addNpcTile(event.getNpc());
 		runeliteObjectGroups.forEach((groupID, group) -> {
 			for (ExtendedRuneliteObject extendedRuneliteObject : group.extendedRuneliteObjects)
 			{
@@ -748,6 +812,7 @@ public class RuneliteObjectManager
 	@Subscribe
 	public void onNpcDespawned(NpcDespawned event)
 	{
+		removeNpcTile(event.getNpc());
 		runeliteObjectGroups.forEach((groupID, group) -> {
 			for (ExtendedRuneliteObject extendedRuneliteObject : group.extendedRuneliteObjects)
 			{
@@ -767,6 +832,8 @@ public class RuneliteObjectManager
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
+		updateNpcTiles();
+
 		List<ExtendedRuneliteObjects> groups = new ArrayList<>();
 		// To avoid edit whilst looping error, we get groups first
 		runeliteObjectGroups.forEach((groupID, extendedRuneliteObjectsGroup) -> groups.add(extendedRuneliteObjectsGroup));
@@ -817,6 +884,7 @@ public class RuneliteObjectManager
 			redClickAnimationFrame++;
 		}
 		WorldPoint playerPosition = WorldPoint.fromLocalInstance(client, client.getLocalPlayer().getLocalLocation());
+		hoveredObjects.clear();
 		runeliteObjectGroups.forEach((groupID, extendedRuneliteObjectGroup) -> {
 			for (ExtendedRuneliteObject extendedRuneliteObject : extendedRuneliteObjectGroup.extendedRuneliteObjects)
 			{
@@ -841,8 +909,7 @@ public class RuneliteObjectManager
 				boolean isVisible = extendedRuneliteObject.isVisible();
 				boolean shouldDisplayReqPassed = extendedRuneliteObject.getDisplayReq() == null || extendedRuneliteObject.getDisplayReq().check(client);
 
-				if (extendedRuneliteObject.objectType == RuneliteObjectTypes.NPC &&
-					(!shouldDisplayReqPassed || isNpcOnTile(extendedRuneliteObject) || isPlayerOnTile(extendedRuneliteObject, playerPosition)))
+				if (extendedRuneliteObject.objectType == RuneliteObjectTypes.NPC && isHiddenByTile(extendedRuneliteObject, shouldDisplayReqPassed, playerPosition))
 				{
 					if (isVisible) extendedRuneliteObject.setVisible(false);
 				}
@@ -850,10 +917,25 @@ public class RuneliteObjectManager
 				{
 					extendedRuneliteObject.setVisible(true);
 				}
+
+				if (canAddMenuOptions(extendedRuneliteObject))
+				{
+					hoveredObjects.add(extendedRuneliteObject);
+				}
 			}
 		});
 	}
 
+	private boolean isHiddenByTile(ExtendedRuneliteObject extendedRuneliteObject, boolean shouldDisplayReqPassed, WorldPoint playerPosition)
+	{
+		if (!shouldDisplayReqPassed)
+		{
+			return true;
+		}
+		WorldPoint rlObjWp = WorldPoint.fromLocalInstance(client, extendedRuneliteObject.getRuneliteObject().getLocation());
+		return isNpcOnTile(extendedRuneliteObject, rlObjWp) || isPlayerOnTile(rlObjWp, playerPosition);
+	}
+
 	@Subscribe
 	public void onWidgetLoaded(WidgetLoaded event)
 	{
@@ -932,6 +1014,8 @@ public class RuneliteObjectManager
 		}
 		else if (event.getGameState() == GameState.LOADING)
 		{
+			npcsByTile.clear();
+			npcTiles.clear();
 			runeliteObjectGroups.forEach((groupID, extendedRuneliteObjectGroup) -> {
 				for (ExtendedRuneliteObject extendedRuneliteObject : extendedRuneliteObjectGroup.extendedRuneliteObjects)
 				{
@@ -28,6 +28,7 @@ import com.questhelper.collections.KeyringCollection;
 import com.questhelper.domain.AccountType;
 import com.questhelper.requirements.item.KeyringRequirement;
 import com.questhelper.runeliteobjects.extendedruneliteobjects.QuestCompletedWidget;
+import com.questhelper.util.MultiPatternMatcher;
 import lombok.Getter;
 import lombok.NonNull;
 import net.runelite.api.ChatMessageType;
@@ -45,6 +46,7 @@ import net.runelite.client.eventbus.Subscribe;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Singleton
 public class PlayerStateManager
@@ -66,6 +68,10 @@ public class PlayerStateManager
 
 	List<KeyringRequirement> keyringKeys;
 
+	// Match the add and remove messages of every key in one pass over the message, built from keyringKeys in startUp
+	MultiPatternMatcher keyringAddMatcher;
+	MultiPatternMatcher keyringRemoveMatcher;
+
 	WorldPoint lastPlayerPos = null;
 
 	/**
@@ -78,6 +84,12 @@ public class PlayerStateManager
 	public void startUp()
 	{
 		keyringKeys = KeyringCollection.allKeyRequirements(configManager);
+		keyringAddMatcher = new MultiPatternMatcher(keyringKeys.stream()
+			.map(keyringKey -> List.of("You add the " + keyringKey.chatboxText()))
+			.collect(Collectors.toList()));
+		keyringRemoveMatcher = new MultiPatternMatcher(keyringKeys.stream()
+			.map(keyringKey -> List.of("You remove the " + keyringKey.chatboxText()))
+			.collect(Collectors.toList()));
 		AchievementDiaryStepManager.setup(configManager);
 		barbarianTrainingStateTracker.startUp(configManager, eventBus);
 	}
@@ -93,21 +105,23 @@ public class PlayerStateManager
 		if (keyringKeys == null || chatMessage.getType() != ChatMessageType.GAMEMESSAGE) return;
 		if (chatMessage.getMessage().contains("to your key ring."))
 		{
-			for (KeyringRequirement keyringKey : keyringKeys)
+			boolean[] added = keyringAddMatcher.findMatchingOwners(chatMessage.getMessage());
+			for (int i = 0; i < keyringKeys.size(); i++)
 			{
-				if (chatMessage.getMessage().contains("You add the " + keyringKey.chatboxText()))
+				if (added[i])
 				{
-					keyringKey.setConfigValue("true");
+					keyringKeys.get(i).setConfigValue("true");
 				}
 			}
 		}
 		if (chatMessage.getMessage().contains("from your key ring."))
 		{
-			for (KeyringRequirement keyringKey : keyringKeys)
+			boolean[] removed = keyringRemoveMatcher.findMatchingOwners(chatMessage.getMessage());
+			for (int i = 0; i < keyringKeys.size(); i++)
 			{
-				if (chatMessage.getMessage().contains("You remove the " + keyringKey.chatboxText()))
+				if (removed[i])
 				{
-					keyringKey.setConfigValue("false");
+					keyringKeys.get(i).setConfigValue("false");
 				}
 			}
 		}
@@ -26,10 +26,14 @@ package com.questhelper.steps;
 
 import com.google.inject.Inject;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.ItemAndLastUpdated;
 import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.requirements.ChatConditionMatcher;
 import com.questhelper.requirements.ChatMessageRequirement;
 import com.questhelper.requirements.MultiChatMessageRequirement;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.conditional.InitializableRequirement;
 import com.questhelper.requirements.conditional.NpcCondition;
 import com.questhelper.requirements.item.ItemRequirement;
@@ -39,6 +43,7 @@ import com.questhelper.steps.widget.AbstractWidgetHighlight;
 import lombok.NonNull;
 import lombok.Setter;
 import net.runelite.api.GameState;
+import net.runelite.api.Player;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.*;
 import net.runelite.client.eventbus.EventBus;
@@ -70,17 +75,33 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	@Setter
 	protected boolean checkAllChildStepsOnListenerCall = false;
 
+	/**
+	 * Controls whether the active step is re-evaluated every tick, rather than only on ticks where the state read by
+	 * the step's conditions has changed.
+	 * Subclasses which select their active step based on anything other than their conditions should set this.
+	 */
+	@Setter
+	protected boolean updateStepsEveryTick = false;
+
+	private RequirementInputs conditionInputs;
+	private boolean conditionInputsChanged = true;
+	private WorldPoint lastPlayerLocation;
+	private int lastContainerUpdateCount = -1;
+
 	protected LinkedHashMap<Requirement, QuestStep> steps;
 	protected final HashMap<Integer, QuestStep> orderedSteps;
 	protected final List<ChatMessageRequirement> chatConditions = new ArrayList<>();
 	protected final List<NpcCondition> npcConditions = new ArrayList<>();
 	protected final List<DialogRequirement> dialogConditions = new ArrayList<>();
 	protected final List<RuneliteRequirement> runeliteConditions = new ArrayList<>();
+	private ChatConditionMatcher chatConditionMatcher;
 
 	protected QuestStep currentStep;
 
 	protected List<Requirement> requirements = new ArrayList<>();
 
+	private final InventoryHighlights itemHighlights = new InventoryHighlights();
+
 	public ConditionalStep(QuestHelper questHelper, QuestStep step, Requirement... requirements)
 	{
 		this(questHelper, step, "", requirements);
@@ -123,6 +144,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	{
 		step.setLockable(isLockable);
 		this.steps.put(requirement, step);
+		conditionInputs = null;
 
 		checkForConditions(requirement);
 	}
@@ -156,11 +178,13 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		if (condition instanceof MultiChatMessageRequirement && !chatConditions.contains(condition))
 		{
 			chatConditions.add((MultiChatMessageRequirement) condition);
+			chatConditionMatcher = null;
 		}
 
 		if (condition instanceof ChatMessageRequirement && !chatConditions.contains(condition))
 		{
 			chatConditions.add((ChatMessageRequirement) condition);
+			chatConditionMatcher = null;
 		}
 		condition.getConditions().forEach(this::checkForChatConditions);
 	}
@@ -171,6 +195,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		{
 			DialogRequirement runeliteReq = (DialogRequirement) requirement;
 			dialogConditions.add(runeliteReq);
+			chatConditionMatcher = null;
 		}
 	}
 
@@ -207,6 +232,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		steps.keySet().stream()
 			.filter(InitializableRequirement.class::isInstance)
 			.forEach(req -> ((InitializableRequirement) req).initialize(client));
+		conditionInputs = null;
 		updateSteps();
 		started = true;
 	}
@@ -215,17 +241,109 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	public void shutDown()
 	{
 		started = false;
+		conditionInputsChanged = true;
 		shutDownStep();
 		currentStep = null;
 	}
 
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		conditionInputs = null;
+		conditionInputsChanged = true;
+		lastPlayerLocation = null;
+		lastContainerUpdateCount = -1;
+		resetRequirements(steps.keySet());
+		resetRequirements(requirements);
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
 		if (started)
 		{
 			checkRuneliteConditions(checkAllChildStepsOnListenerCall);
-			updateSteps();
+			if (shouldUpdateSteps())
+			{
+				updateSteps();
+			}
+		}
+	}
+
+	/**
+	 * Determine whether any state read by this step's conditions may have changed since the last update.
+	 *
+	 * @return true if the active step should be re-evaluated
+	 */
+	private boolean shouldUpdateSteps()
+	{
+		if (conditionInputs == null)
+		{
+			conditionInputs = buildConditionInputs();
+			conditionInputsChanged = true;
+		}
+
+		boolean changed = conditionInputsChanged || updateStepsEveryTick || conditionInputs.isAlwaysCheck();
+		conditionInputsChanged = false;
+
+		if (conditionInputs.isLocation())
+		{
+			Player player = client.getLocalPlayer();
+			WorldPoint playerLocation = player == null ? null : player.getWorldLocation();
+			if (!Objects.equals(playerLocation, lastPlayerLocation))
+			{
+				lastPlayerLocation = playerLocation;
+				changed = true;
+			}
+		}
+
+		if (conditionInputs.isItems())
+		{
+			int containerUpdateCount = ItemAndLastUpdated.getUpdateCount();
+			if (containerUpdateCount != lastContainerUpdateCount)
+			{
+				lastContainerUpdateCount = containerUpdateCount;
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	private RequirementInputs buildConditionInputs()
+	{
+		RequirementInputs inputs = new RequirementInputs();
+		for (Map.Entry<Requirement, QuestStep> entry : steps.entrySet())
+		{
+			inputs.add(entry.getKey());
+
+			// Locks can be toggled from the sidebar at any time, so steps using them can't skip any ticks
+			QuestStep step = entry.getValue();
+			if (step.isLockable() || step.isBlocker() || step.getLockingCondition() != null)
+			{
+				inputs.addAlwaysCheck();
+			}
+		}
+		return inputs;
+	}
+
+	@Override
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		super.onVarbitChanged(event);
+		if (conditionInputs != null && conditionInputs.isAffectedBy(event))
+		{
+			conditionInputsChanged = true;
+		}
+	}
+
+	@Subscribe
+	public void onStatChanged(StatChanged event)
+	{
+		if (conditionInputs != null && conditionInputs.isStats())
+		{
+			conditionInputsChanged = true;
 		}
 	}
 
@@ -244,6 +362,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	{
 		if (event.getGameState() == GameState.LOADING || event.getGameState() == GameState.HOPPING)
 		{
+			conditionInputsChanged = true;
 			steps.keySet().stream()
 				.filter(Objects::nonNull)
 				.filter(InitializableRequirement.class::isInstance)
@@ -266,8 +385,11 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 
 	public void handleChatMessage(ChatMessage chatMessage, boolean parentDefinedRecursion)
 	{
-		chatConditions.forEach(requirement -> requirement.validateCondition(client, chatMessage));
-		dialogConditions.forEach(requirement -> requirement.validateCondition(chatMessage));
+		if (chatConditionMatcher == null)
+		{
+			chatConditionMatcher = new ChatConditionMatcher(chatConditions, dialogConditions);
+		}
+		chatConditionMatcher.handleChatMessage(client, chatMessage);
 
 		handleChildRequirementValidation(step -> step.handleChatMessage(chatMessage, parentDefinedRecursion), parentDefinedRecursion);
 	}
@@ -326,7 +448,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		for (Requirement conditions : steps.keySet())
 		{
 			boolean stepIsLocked = steps.get(conditions).isLocked();
-			if (conditions != null && conditions.check(client) && !stepIsLocked)
+			if (conditions != null && RequirementCache.check(conditions, client) && !stepIsLocked)
 			{
 				startUpStep(steps.get(conditions));
 				return;
@@ -426,11 +548,10 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 			currentStep.makeWidgetOverlayHint(graphics, plugin);
 		}
 		WorldPoint activeWp = (currentStep instanceof DetailedQuestStep) ? ((DetailedQuestStep) currentStep).getWorldPoint() : null;
-		List<ItemRequirement> itemRequirements = requirements.stream()
+		renderInventory(graphics, activeWp, itemHighlights, () -> requirements.stream()
 				.filter(ItemRequirement.class::isInstance)
 				.map(ItemRequirement.class::cast)
-				.collect(Collectors.toList());
-		renderInventory(graphics, activeWp, itemRequirements, false);
+				.collect(Collectors.toList()), false);
 		for (AbstractWidgetHighlight widgetHighlights : widgetsToHighlight)
 		{
 			widgetHighlights.highlightChoices(graphics, client, plugin);
@@ -31,6 +31,7 @@ import com.questhelper.QuestHelperPlugin;
 import com.questhelper.bank.QuestBank;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.requirements.zone.Zone;
 import com.questhelper.steps.overlay.DirectionArrow;
@@ -52,7 +53,6 @@ import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.ItemDespawned;
 import net.runelite.api.events.ItemSpawned;
-import net.runelite.api.widgets.Widget;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.PluginMessage;
@@ -103,8 +103,14 @@ public class DetailedQuestStep extends QuestStep
 	@Getter
 	protected final List<Requirement> teleport = new ArrayList<>();
 
+	private final InventoryHighlights itemHighlights = new InventoryHighlights();
+	private final InventoryHighlights teleportHighlights = new InventoryHighlights();
+
 	protected Multimap<Tile, Integer> tileHighlights = ArrayListMultimap.create();
 
+	// Ids of the actual items in the requirements and recommended, which are highlighted on the ground
+	private final Set<Integer> wantedItemIds = new HashSet<>();
+
 	protected QuestHelperWorldMapPoint mapPoint;
 
 	protected static final int MAX_DISTANCE = 2350;
@@ -181,8 +187,8 @@ public class DetailedQuestStep extends QuestStep
 
 			setShortestPath();
 		}
-		addItemTiles(requirements);
-		addItemTiles(recommended);
+		updateWantedItemIds();
+		addItemTiles();
 		started = true;
 
 	}
@@ -196,6 +202,14 @@ public class DetailedQuestStep extends QuestStep
 		started = false;
 	}
 
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		resetRequirements(requirements);
+		resetRequirements(recommended);
+	}
+
 	public void addRequirement(Requirement requirement)
 	{
 		requirements.add(requirement);
@@ -329,6 +343,13 @@ public class DetailedQuestStep extends QuestStep
 	public void onGameTick(GameTick event)
 	{
 		currentRender = (currentRender + 1) % MAX_RENDER_SIZE;
+
+		// Requirements can change while the step is active, such as a helper changing an item's id from its config
+		if (started && updateWantedItemIds())
+		{
+			tileHighlights.clear();
+			addItemTiles();
+		}
 	}
 
 	@Override
@@ -438,16 +459,14 @@ public class DetailedQuestStep extends QuestStep
 		{
 			return;
 		}
-		List<ItemRequirement> itemRequirements = requirements.stream()
+		renderInventory(graphics, worldPoint, itemHighlights, () -> requirements.stream()
 				.filter(ItemRequirement.class::isInstance)
 				.map(ItemRequirement.class::cast)
-				.collect(Collectors.toList());
-		List<ItemRequirement> teleportRequirements = teleport.stream()
+				.collect(Collectors.toList()), false);
+		renderInventory(graphics, worldPoint, teleportHighlights, () -> teleport.stream()
 				.filter(ItemRequirement.class::isInstance)
 				.map(ItemRequirement.class::cast)
-				.collect(Collectors.toList());
-		renderInventory(graphics, worldPoint, itemRequirements, false);
-		renderInventory(graphics, worldPoint, teleportRequirements, true);
+				.collect(Collectors.toList()), true);
 		for (AbstractWidgetHighlight widgetHighlights : widgetsToHighlight)
 		{
 			widgetHighlights.highlightChoices(graphics, client, plugin);
@@ -570,84 +589,93 @@ public class DetailedQuestStep extends QuestStep
 	public void onItemSpawned(ItemSpawned itemSpawned)
 	{
 		TileItem item = itemSpawned.getItem();
+		if (!wantedItemIds.contains(item.getId())) return;
+
 		Tile tile = itemSpawned.getTile();
 		if (onlyHighlightItemsOnTile && !QuestPerspective.getInstanceLocalPointFromReal(client, worldPoint).contains(tile.getLocalLocation())) return;
-		for (Requirement requirement : requirements)
-		{
-			if (isItemRequirement(requirement) && requirementContainsID((ItemRequirement) requirement, item.getId()))
-			{
-				tileHighlights.get(tile).add(itemSpawned.getItem().getId());
-			}
-		}
+		tileHighlights.put(tile, item.getId());
 	}
 
 	@Subscribe
 	public void onItemDespawned(ItemDespawned itemDespawned)
 	{
 		Tile tile = itemDespawned.getTile();
-		if (tileHighlights.containsKey(tile))
-		{
-			for (Requirement requirement : requirements)
-			{
-				if (isItemRequirement(requirement) && requirementContainsID((ItemRequirement) requirement, itemDespawned.getItem().getId()))
-				{
-					tileHighlights.get(tile).remove(itemDespawned.getItem().getId());
-				}
-			}
-		}
+		tileHighlights.remove(tile, itemDespawned.getItem().getId());
 	}
 
-	protected void addItemTiles(Collection<Requirement> requirements)
+	/**
+	 * Index the wanted items already on the ground in the scene, which from then on is kept up to date by the item
+	 * spawn and despawn events.
+	 */
+	protected void addItemTiles()
 	{
-		if (requirements == null || requirements.isEmpty())
+		if (wantedItemIds.isEmpty())
 		{
 			return;
 		}
-		Tile[][] squareOfTiles = client.getScene().getTiles()[client.getPlane()];
 
-		// Reduce the two-dimensional array into a single list for processing.
-		List<Tile> tiles = Stream.of(squareOfTiles)
-			.flatMap(Arrays::stream)
-			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
-		for (Tile tile : tiles)
+		List<LocalPoint> highlightedPoints = onlyHighlightItemsOnTile ? QuestPerspective.getInstanceLocalPointFromReal(client, worldPoint) : null;
+		for (Tile[] row : client.getScene().getTiles()[client.getPlane()])
 		{
-			List<TileItem> items = tile.getGroundItems();
-			if (items != null)
+			for (Tile tile : row)
 			{
+				if (tile == null)
+				{
+					continue;
+				}
+				List<TileItem> items = tile.getGroundItems();
+				if (items == null)
+				{
+					continue;
+				}
+				if (highlightedPoints != null && !highlightedPoints.contains(tile.getLocalLocation())) continue;
 				for (TileItem item : items)
 				{
-					if (item == null)
+					if (item != null && wantedItemIds.contains(item.getId()))
 					{
-						continue;
-					}
-					if (onlyHighlightItemsOnTile && !QuestPerspective.getInstanceLocalPointFromReal(client, worldPoint).contains(tile.getLocalLocation())) continue;
-					for (Requirement requirement : requirements)
-					{
-						if (isValidRequirementForTileItem(requirement, item))
-						{
-							tileHighlights.get(tile).add(item.getId());
-							break;
-						}
+						tileHighlights.put(tile, item.getId());
 					}
 				}
 			}
 		}
 	}
 
-	private boolean isValidRequirementForTileItem(Requirement requirement, TileItem item)
+	/**
+	 * Rebuild the set of item ids to highlight on the ground from the current requirements.
+	 *
+	 * @return true if the set changed
+	 */
+	private boolean updateWantedItemIds()
 	{
-		return isItemRequirement(requirement) && requirementMatchesTileItem((ItemRequirement) requirement, item);
+		Set<Integer> ids = new HashSet<>();
+		addWantedItemIds(ids, requirements);
+		addWantedItemIds(ids, recommended);
+		if (ids.equals(wantedItemIds))
+		{
+			return false;
+		}
+		wantedItemIds.clear();
+		wantedItemIds.addAll(ids);
+		return true;
 	}
 
-	private boolean isItemRequirement(Requirement requirement)
+	private void addWantedItemIds(Set<Integer> ids, Collection<Requirement> requirements)
 	{
-		return requirement != null && requirement.getClass() == ItemRequirement.class;
+		for (Requirement requirement : requirements)
+		{
+			if (isItemRequirement(requirement) && requirementIsItem((ItemRequirement) requirement))
+			{
+				for (int id : ((ItemRequirement) requirement).getDistinctIds())
+				{
+					ids.add(id);
+				}
+			}
+		}
 	}
 
-	private boolean requirementMatchesTileItem(ItemRequirement requirement, TileItem item)
+	private boolean isItemRequirement(Requirement requirement)
 	{
-		return requirementIsItem(requirement) && requirementContainsID(requirement, item.getId());
+		return requirement != null && requirement.getClass() == ItemRequirement.class;
 	}
 
 	private boolean requirementIsItem(ItemRequirement requirement)
@@ -748,7 +776,7 @@ public class DetailedQuestStep extends QuestStep
 			&& requirementIsItem((ItemRequirement) requirement)
 			&& requirementContainsID((ItemRequirement) requirement, ids)
 			&& ((ItemRequirement) requirement).shouldRenderItemHighlights(client)
-			&& ((!considerBankForItemHighlight && !requirement.check(client)) ||
+			&& ((!considerBankForItemHighlight && !RequirementCache.check(requirement, client)) ||
 			(considerBankForItemHighlight &&
 				!((ItemRequirement) requirement).checkWithAllContainers()));
 	}
@@ -836,9 +864,9 @@ public class DetailedQuestStep extends QuestStep
 	}
 
 	@Override
-	protected boolean isValidRenderRequirementInInventory(ItemRequirement requirement, Widget item)
+	protected boolean isValidRenderRequirementInInventory(ItemRequirement requirement)
 	{
-		return (teleport.contains(requirement) || requirement.shouldHighlightInInventory(client)) && requirement.getAllIds().contains(item.getItemId());
+		return teleport.contains(requirement) || requirement.shouldHighlightInInventory(client);
 	}
 
 	@Override
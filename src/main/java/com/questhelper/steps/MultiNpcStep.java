@@ -24,6 +24,7 @@
  */
 package com.questhelper.steps;
 
+import com.questhelper.managers.NpcIndex;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
 import net.runelite.api.GameState;
@@ -35,7 +36,9 @@ import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.events.VarbitChanged;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -115,9 +118,18 @@ public class MultiNpcStep extends NpcStep
 	public void scanForNpcs()
 	{
 		super.scanForNpcs();
-		for (NPC npc : client.getTopLevelWorldView().npcs())
+		Set<NPC> scannedNpcs = new HashSet<>();
+		List<Integer> compositionIds = new ArrayList<>(alternateNpcIDs);
+		compositionIds.add(0, npcCompositionID);
+		for (int id : compositionIds)
 		{
-			addNpcToListGivenMatchingID(npc, this::npcIsCompositionMatch, baseNPCs);
+			for (NPC npc : NpcIndex.getNpcs(id))
+			{
+				if (scannedNpcs.add(npc))
+				{
+					addNpcToListGivenMatchingID(npc, this::npcIsCompositionMatch, baseNPCs);
+				}
+			}
 		}
 	}
 
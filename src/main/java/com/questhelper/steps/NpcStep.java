@@ -27,6 +27,7 @@ package com.questhelper.steps;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.NpcIndex;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
 import com.questhelper.steps.overlay.DirectionArrow;
@@ -50,7 +51,9 @@ import java.awt.geom.Line2D;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import static com.questhelper.overlays.QuestHelperWorldOverlay.IMAGE_Z_OFFSET;
@@ -189,9 +192,16 @@ public class NpcStep extends DetailedQuestStep
 
 	public void scanForNpcs()
 	{
-		for (NPC npc : client.getTopLevelWorldView().npcs())
+		Set<NPC> scannedNpcs = new HashSet<>();
+		for (int id : allIds())
 		{
-			addNpcToListGivenMatchingID(npc, this::npcPassesChecks, npcs);
+			for (NPC npc : NpcIndex.getNpcs(id))
+			{
+				if (scannedNpcs.add(npc))
+				{
+					addNpcToListGivenMatchingID(npc, this::npcPassesChecks, npcs);
+				}
+			}
 		}
 	}
 
@@ -236,6 +246,13 @@ public class NpcStep extends DetailedQuestStep
 		npcs.clear();
 	}
 
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		npcs.clear();
+	}
+
 	@Override
 	public void onGameStateChanged(GameStateChanged event)
 	{
@@ -26,6 +26,7 @@ package com.questhelper.steps;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.SceneObjectIndex;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
 import com.questhelper.requirements.zone.Zone;
@@ -139,22 +140,23 @@ public class ObjectStep extends DetailedQuestStep
 	{
 		// TODO: This needs to be tested in Shadow of the Storm's Demon Room
 		objects.clear();
-		Tile[][] tiles = client.getScene().getTiles()[client.getPlane()];
-		for (Tile[] lineOfTiles : tiles)
+		int plane = client.getPlane();
+		loadIndexedObjects(SceneObjectIndex.getObjects(objectID), plane);
+		for (int alternateObjectID : alternateObjectIDs)
 		{
-			for (Tile tile : lineOfTiles)
+			loadIndexedObjects(SceneObjectIndex.getObjects(alternateObjectID), plane);
+		}
+		// Objects with impostors are indexed under their base id, so handleObjects needs to resolve them
+		loadIndexedObjects(SceneObjectIndex.getMultilocObjects(), plane);
+	}
+
+	private void loadIndexedObjects(List<TileObject> indexedObjects, int plane)
+	{
+		for (TileObject object : indexedObjects)
+		{
+			if (object.getPlane() == plane)
 			{
-				if (tile != null)
-				{
-					for (GameObject object : tile.getGameObjects())
-					{
-						handleObjects(object);
-					}
-
-					handleObjects(tile.getDecorativeObject());
-					handleObjects(tile.getGroundObject());
-					handleObjects(tile.getWallObject());
-				}
+				handleObjects(object);
 			}
 		}
 	}
@@ -206,6 +208,13 @@ public class ObjectStep extends DetailedQuestStep
 		objects.clear();
 	}
 
+	@Override
+	public void resetState()
+	{
+		super.resetState();
+		objects.clear();
+	}
+
 	@Override
 	public void onGameStateChanged(GameStateChanged event)
 	{
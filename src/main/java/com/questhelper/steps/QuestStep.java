@@ -31,6 +31,7 @@ import com.questhelper.QuestHelperPlugin;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.questhelpers.QuestUtil;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementCache;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.steps.choice.*;
 import com.questhelper.steps.overlay.IconOverlay;
@@ -69,6 +70,7 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static com.questhelper.overlays.QuestHelperOverlay.TITLED_CONTENT_COLOR;
@@ -216,6 +218,42 @@ public abstract class QuestStep implements Module
 	{
 	}
 
+	/**
+	 * Clear the state left from the last time the helper ran, as a helper's steps are reused when it's started again.
+	 */
+	public void resetState()
+	{
+		locked = false;
+		unlockable = true;
+		currentCutsceneStatus = 0;
+		inCutscene = false;
+		lastDialogSeen = "";
+		resetRequirements(Arrays.asList(lockingCondition, conditionToHide));
+	}
+
+	/**
+	 * Whether {@link #resetState()} clears everything this step keeps from a run, so its helper's steps can be reused
+	 * when it's started again. Steps which keep what they've learned during a run, such as a puzzle's solution, should
+	 * return false unless they also override {@link #resetState()} to clear it.
+	 *
+	 * @return true if this step can be reused after being reset
+	 */
+	public boolean canResetState()
+	{
+		return true;
+	}
+
+	protected void resetRequirements(Collection<Requirement> requirements)
+	{
+		for (Requirement requirement : requirements)
+		{
+			if (requirement != null)
+			{
+				requirement.resetState();
+			}
+		}
+	}
+
 	public QuestStep withId(Integer id)
 	{
 		this.id = id;
@@ -527,7 +565,7 @@ public abstract class QuestStep implements Module
 
 	public boolean isLocked()
 	{
-		boolean autoLocked = lockingCondition != null && lockingCondition.check(client);
+		boolean autoLocked = lockingCondition != null && RequirementCache.check(lockingCondition, client);
 		unlockable = !autoLocked;
 		if (autoLocked)
 		{
@@ -599,7 +637,18 @@ public abstract class QuestStep implements Module
 		return client.getWidget(InterfaceID.Inventory.ITEMS);
 	}
 
-	protected void renderInventory(Graphics2D graphics, WorldPoint worldPoint, List<ItemRequirement> passedRequirements, boolean distanceLimit)
+	/**
+	 * The ids of the items to highlight in the inventory for one list of requirements, built at most once per game
+	 * tick so each frame only needs a lookup per inventory slot.
+	 */
+	protected static class InventoryHighlights
+	{
+		private int builtOnTick = -1;
+		private final Set<Integer> itemIds = new HashSet<>();
+	}
+
+	protected void renderInventory(Graphics2D graphics, WorldPoint worldPoint, InventoryHighlights highlights,
+								   Supplier<List<ItemRequirement>> passedRequirements, boolean distanceLimit)
 	{
 		Widget inventoryWidget = getInventoryWidget();
 		if (inventoryWidget == null || inventoryWidget.isHidden())
@@ -607,27 +656,35 @@ public abstract class QuestStep implements Module
 			return;
 		}
 
-		Color baseColor = questHelper.getConfig().targetOverlayColor();
+		if (highlights.builtOnTick != client.getTickCount())
+		{
+			highlights.builtOnTick = client.getTickCount();
+			highlights.itemIds.clear();
+			for (ItemRequirement requirement : passedRequirements.get())
+			{
+				if (isValidRenderRequirementInInventory(requirement))
+				{
+					highlights.itemIds.addAll(requirement.getAllIds());
+				}
+			}
+		}
 
-		if (passedRequirements.isEmpty()) return;
+		if (highlights.itemIds.isEmpty()) return;
 		if (inventoryWidget.getDynamicChildren() == null) return;
 
+		if (distanceLimit)
+		{
+			WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+			WorldPoint goalWp = QuestPerspective.getInstanceWorldPointFromReal(client, worldPoint);
+			if (goalWp != null && playerLocation.distanceTo(goalWp) <= 100) return;
+		}
 
+		Color baseColor = questHelper.getConfig().targetOverlayColor();
 		for (Widget item : inventoryWidget.getDynamicChildren())
 		{
-			for (Requirement requirement : passedRequirements)
+			if (highlights.itemIds.contains(item.getItemId()))
 			{
-				if (distanceLimit)
-				{
-					WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-					WorldPoint goalWp = QuestPerspective.getInstanceWorldPointFromReal(client, worldPoint);
-					if (goalWp != null && playerLocation.distanceTo(goalWp) <= 100) continue;
-				}
-
-				if (isValidRequirementForRenderInInventory(requirement, item))
-				{
-					highlightInventoryItem(item, baseColor, graphics);
-				}
+				highlightInventoryItem(item, baseColor, graphics);
 			}
 		}
 	}
@@ -657,14 +714,9 @@ public abstract class QuestStep implements Module
 		}
 	}
 
-	private boolean isValidRequirementForRenderInInventory(Requirement requirement, Widget item)
-	{
-		return requirement instanceof ItemRequirement && isValidRenderRequirementInInventory((ItemRequirement) requirement, item);
-	}
-
-	protected boolean isValidRenderRequirementInInventory(ItemRequirement requirement, Widget item)
+	protected boolean isValidRenderRequirementInInventory(ItemRequirement requirement)
 	{
-		return (requirement.shouldHighlightInInventory(client)) && requirement.getAllIds().contains(item.getItemId());
+		return requirement.shouldHighlightInInventory(client);
 	}
 
 	protected void renderHoveredItemTooltip(String tooltipText)
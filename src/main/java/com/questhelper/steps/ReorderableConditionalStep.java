@@ -14,6 +14,8 @@ public class ReorderableConditionalStep extends ConditionalStep
     public ReorderableConditionalStep(QuestHelper questHelper, QuestStep step, Requirement... requirements)
     {
         super(questHelper, step, requirements);
+        // Sidebar order can change at any time
+        this.updateStepsEveryTick = true;
     }
 
     private void organiseSteps()
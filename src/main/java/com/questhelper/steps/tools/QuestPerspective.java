@@ -36,6 +36,7 @@ import net.runelite.api.widgets.Widget;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -50,6 +51,12 @@ public class QuestPerspective
 	private final static int NE = 2;
 	private final static int SE = 1;
 
+	private final static int[] NO_CHUNKS = new int[0];
+
+	// Template chunk keys, sorted, and the packed instance chunks using each of them. Built once per scene.
+	private static int[] templateChunkKeys;
+	private static int[][] instanceChunksByTemplate;
+
 	public static Collection<WorldPoint> toLocalInstanceFromReal(Client client, WorldPoint worldPoint)
 	{
 		if (!client.isInInstancedRegion())
@@ -60,9 +67,62 @@ public class QuestPerspective
 		if (worldPoint == null) return Collections.singleton(null);
 
 		// find instance chunks using the template point. there might be more than one.
-		List<WorldPoint> worldPoints = new ArrayList<>();
+		int[] instanceChunks = getInstanceChunks(client, worldPoint.getX() / CHUNK_SIZE, worldPoint.getY() / CHUNK_SIZE);
+		List<WorldPoint> worldPoints = new ArrayList<>(instanceChunks.length);
+
+		for (int instanceChunk : instanceChunks)
+		{
+			int z = instanceChunk >> 24 & 0x3;
+			int x = instanceChunk >> 16 & 0xFF;
+			int y = instanceChunk >> 8 & 0xFF;
+			int rotation = instanceChunk & 0x3;
+			WorldPoint p =
+				new WorldPoint(client.getBaseX() + x * CHUNK_SIZE + (worldPoint.getX() & (CHUNK_SIZE - 1)),
+					client.getBaseY() + y * CHUNK_SIZE + (worldPoint.getY() & (CHUNK_SIZE - 1)),
+					z);
+			p = rotate(p, rotation);
+			if (p.isInScene(client))
+			{
+				worldPoints.add(p);
+			}
+		}
+		return worldPoints;
+	}
+
+	/**
+	 * Forget the instance chunks of the current scene. Must be called whenever a new scene loads.
+	 */
+	public static void invalidateInstanceChunks()
+	{
+		templateChunkKeys = null;
+		instanceChunksByTemplate = null;
+	}
+
+	/**
+	 * Find the instance chunks which are copies of a template chunk.
+	 *
+	 * @param client the {@link Client}
+	 * @param templateChunkX the x coordinate of the template chunk, in chunks
+	 * @param templateChunkY the y coordinate of the template chunk, in chunks
+	 * @return the instance chunks, packed as plane, scene chunk x, scene chunk y and rotation
+	 */
+	private static int[] getInstanceChunks(Client client, int templateChunkX, int templateChunkY)
+	{
+		if (templateChunkKeys == null)
+		{
+			buildInstanceChunks(client.getInstanceTemplateChunks());
+		}
 
-		int[][][] instanceTemplateChunks = client.getInstanceTemplateChunks();
+		int index = Arrays.binarySearch(templateChunkKeys, templateChunkKey(templateChunkX, templateChunkY));
+		return index < 0 ? NO_CHUNKS : instanceChunksByTemplate[index];
+	}
+
+	private static void buildInstanceChunks(int[][][] instanceTemplateChunks)
+	{
+		// Each entry is the template chunk key in the high bits and the packed instance chunk in the low bits,
+		// so sorting groups all instance chunks of a template chunk together
+		long[] entries = new long[instanceTemplateChunks.length * Perspective.SCENE_SIZE * Perspective.SCENE_SIZE / CHUNK_SIZE / CHUNK_SIZE];
+		int entryCount = 0;
 		for (int z = 0; z < instanceTemplateChunks.length; ++z)
 		{
 			for (int x = 0; x < instanceTemplateChunks[z].length; ++x)
@@ -71,25 +131,48 @@ public class QuestPerspective
 				{
 					int chunkData = instanceTemplateChunks[z][x][y];
 					int rotation = chunkData >> 1 & 0x3;
-					int templateChunkY = (chunkData >> 3 & 0x7FF) * CHUNK_SIZE;
-					int templateChunkX = (chunkData >> 14 & 0x3FF) * CHUNK_SIZE;
-					if (worldPoint.getX() >= templateChunkX && worldPoint.getX() < templateChunkX + CHUNK_SIZE
-						&& worldPoint.getY() >= templateChunkY && worldPoint.getY() < templateChunkY + CHUNK_SIZE)
+					int templateChunkY = chunkData >> 3 & 0x7FF;
+					int templateChunkX = chunkData >> 14 & 0x3FF;
+					int instanceChunk = z << 24 | x << 16 | y << 8 | rotation;
+					if (entryCount == entries.length)
 					{
-						WorldPoint p =
-							new WorldPoint(client.getBaseX() + x * CHUNK_SIZE + (worldPoint.getX() & (CHUNK_SIZE - 1)),
-								client.getBaseY() + y * CHUNK_SIZE + (worldPoint.getY() & (CHUNK_SIZE - 1)),
-								z);
-						p = rotate(p, rotation);
-						if (p.isInScene(client))
-						{
-							worldPoints.add(p);
-						}
+						entries = Arrays.copyOf(entries, entries.length * 2 + 1);
 					}
+					entries[entryCount++] = (long) templateChunkKey(templateChunkX, templateChunkY) << 32 | instanceChunk;
 				}
 			}
 		}
-		return worldPoints;
+		Arrays.sort(entries, 0, entryCount);
+
+		List<Integer> keys = new ArrayList<>();
+		List<int[]> chunks = new ArrayList<>();
+		int start = 0;
+		while (start < entryCount)
+		{
+			int key = (int) (entries[start] >>> 32);
+			int end = start;
+			while (end < entryCount && (int) (entries[end] >>> 32) == key)
+			{
+				end++;
+			}
+
+			int[] instanceChunks = new int[end - start];
+			for (int i = start; i < end; i++)
+			{
+				instanceChunks[i - start] = (int) entries[i];
+			}
+			keys.add(key);
+			chunks.add(instanceChunks);
+			start = end;
+		}
+
+		instanceChunksByTemplate = chunks.toArray(new int[0][]);
+		templateChunkKeys = keys.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static int templateChunkKey(int templateChunkX, int templateChunkY)
+	{
+		return templateChunkX << 11 | templateChunkY;
 	}
 
 	private static WorldPoint rotate(WorldPoint point, int rotation)
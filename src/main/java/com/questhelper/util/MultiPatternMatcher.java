@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Finds which of a set of owners have any of their patterns contained in a text, scanning the text once however many
+ * patterns there are. This is an Aho-Corasick automaton, matching the same as calling {@link String#contains} with
+ * each pattern.
+ */
+public class MultiPatternMatcher
+{
+	private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+	private final List<Set<Integer>> nodeOwners = new ArrayList<>();
+	private final int ownerCount;
+	private int[] failures;
+	private int[][] matchedOwners;
+
+	/**
+	 * @param patternsByOwner the patterns of each owner, with the owner being identified by its index in the list
+	 */
+	public MultiPatternMatcher(List<? extends Collection<String>> patternsByOwner)
+	{
+		ownerCount = patternsByOwner.size();
+		addNode();
+		for (int owner = 0; owner < ownerCount; owner++)
+		{
+			for (String pattern : patternsByOwner.get(owner))
+			{
+				if (pattern != null)
+				{
+					addPattern(owner, pattern);
+				}
+			}
+		}
+		buildFailures();
+	}
+
+	/**
+	 * Find the owners with at least one pattern contained in the given text.
+	 *
+	 * @param text the text to search
+	 * @return for each owner index, whether any of its patterns were found
+	 */
+	public boolean[] findMatchingOwners(String text)
+	{
+		boolean[] matches = new boolean[ownerCount];
+		markOwners(matches, 0);
+
+		int node = 0;
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			Integer next = transitions.get(node).get(c);
+			while (next == null && node != 0)
+			{
+				node = failures[node];
+				next = transitions.get(node).get(c);
+			}
+			node = next == null ? 0 : next;
+			markOwners(matches, node);
+		}
+		return matches;
+	}
+
+	private void markOwners(boolean[] matches, int node)
+	{
+		for (int owner : matchedOwners[node])
+		{
+			matches[owner] = true;
+		}
+	}
+
+	private int addNode()
+	{
+		transitions.add(new HashMap<>());
+		nodeOwners.add(new LinkedHashSet<>());
+		return transitions.size() - 1;
+	}
+
+	private void addPattern(int owner, String pattern)
+	{
+		int node = 0;
+		for (int i = 0; i < pattern.length(); i++)
+		{
+			Integer next = transitions.get(node).get(pattern.charAt(i));
+			if (next == null)
+			{
+				next = addNode();
+				transitions.get(node).put(pattern.charAt(i), next);
+			}
+			node = next;
+		}
+		nodeOwners.get(node).add(owner);
+	}
+
+	private void buildFailures()
+	{
+		int nodeCount = transitions.size();
+		failures = new int[nodeCount];
+		matchedOwners = new int[nodeCount][];
+		matchedOwners[0] = toArray(nodeOwners.get(0));
+
+		// Breadth first, so each node's failure link is complete before its children need it
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int child : transitions.get(0).values())
+		{
+			queue.add(child);
+		}
+
+		while (!queue.isEmpty())
+		{
+			int node = queue.remove();
+			// Owners matched through the failure link, which is always a shorter suffix, are matched here too
+			nodeOwners.get(node).addAll(nodeOwners.get(failures[node]));
+			matchedOwners[node] = toArray(nodeOwners.get(node));
+
+			for (Map.Entry<Character, Integer> transition : transitions.get(node).entrySet())
+			{
+				int child = transition.getValue();
+				int failure = failures[node];
+				Integer next = transitions.get(failure).get(transition.getKey());
+				while (next == null && failure != 0)
+				{
+					failure = failures[failure];
+					next = transitions.get(failure).get(transition.getKey());
+				}
+				failures[child] = next == null ? 0 : next;
+				queue.add(child);
+			}
+		}
+	}
+
+	private static int[] toArray(Set<Integer> owners)
+	{
+		return owners.stream().mapToInt(Integer::intValue).toArray();
+	}
+}
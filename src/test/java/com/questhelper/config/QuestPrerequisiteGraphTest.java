@@ -0,0 +1,166 @@
+package com.questhelper.config;
+
+import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.player.SkillRequirement;
+import com.questhelper.requirements.quest.QuestRequirement;
+import com.questhelper.rewards.ExperienceReward;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QuestPrerequisiteGraphTest
+{
+	private static final QuestHelperQuest A = QuestHelperQuest.COOKS_ASSISTANT;
+	private static final QuestHelperQuest B = QuestHelperQuest.SHEEP_SHEARER;
+	private static final QuestHelperQuest C = QuestHelperQuest.RUNE_MYSTERIES;
+	private static final QuestHelperQuest D = QuestHelperQuest.ERNEST_THE_CHICKEN;
+
+	private static final long DEFENCE = QuestPrerequisiteGraph.skillMask(Skill.DEFENCE);
+
+	private final Map<QuestHelperQuest, QuestHelper> helpers = new EnumMap<>(QuestHelperQuest.class);
+	private final List<QuestHelperQuest> requestedQuests = new ArrayList<>();
+	private QuestPrerequisiteGraph graph;
+
+	@BeforeEach
+	void setup()
+	{
+		graph = new QuestPrerequisiteGraph(quest -> {
+			requestedQuests.add(quest);
+			return helpers.get(quest);
+		});
+	}
+
+	private QuestHelper addQuest(QuestHelperQuest quest, List<Requirement> generalRequirements, ExperienceReward... experienceRewards)
+	{
+		QuestHelper questHelper = mock(QuestHelper.class);
+		when(questHelper.getQuest()).thenReturn(quest);
+		when(questHelper.getGeneralRequirements()).thenReturn(generalRequirements);
+		when(questHelper.getExperienceRewards()).thenReturn(List.of(experienceRewards));
+		if (quest != null)
+		{
+			helpers.put(quest, questHelper);
+		}
+		return questHelper;
+	}
+
+	private static QuestRequirement requires(QuestHelperQuest quest)
+	{
+		return new QuestRequirement(quest, QuestState.FINISHED);
+	}
+
+	private boolean passes(QuestHelperQuest quest, Map<QuestHelperQuest, Boolean> results)
+	{
+		return graph.passesSkillFilter(helpers.get(quest), DEFENCE, results);
+	}
+
+	@Test
+	void failsWithAFilteredPrerequisite()
+	{
+		addQuest(A, List.of(requires(B)));
+		addQuest(B, List.of(), new ExperienceReward(Skill.DEFENCE, 1000));
+		addQuest(C, List.of(new SkillRequirement(Skill.ATTACK, 10)));
+
+		Map<QuestHelperQuest, Boolean> results = new EnumMap<>(QuestHelperQuest.class);
+		assertFalse(passes(A, results));
+		assertFalse(passes(B, results));
+		assertTrue(passes(C, results));
+		assertTrue(graph.questPassesSkillFilter(A, DEFENCE));
+		assertFalse(graph.questPassesSkillFilter(B, DEFENCE));
+	}
+
+	@Test
+	void failsWithAFilteredSkillRequirement()
+	{
+		addQuest(A, List.of(requires(B)));
+		addQuest(B, List.of(new SkillRequirement(Skill.DEFENCE, 30)));
+
+		assertFalse(passes(A, new EnumMap<>(QuestHelperQuest.class)));
+	}
+
+	@Test
+	void cycleDoesNotMemoizeProvisionalPass()
+	{
+		// B is reached again through A while A is still being visited, and only fails once A reaches C
+		addQuest(A, List.of(requires(B), requires(C)));
+		addQuest(B, List.of(requires(A)));
+		addQuest(C, List.of(), new ExperienceReward(Skill.DEFENCE, 1000));
+
+		Map<QuestHelperQuest, Boolean> results = new EnumMap<>(QuestHelperQuest.class);
+		assertFalse(passes(A, results));
+		assertFalse(passes(B, results));
+	}
+
+	@Test
+	void cycleWithoutFilteredSkillsPasses()
+	{
+		addQuest(A, List.of(requires(B)));
+		addQuest(B, List.of(requires(A)));
+
+		Map<QuestHelperQuest, Boolean> results = new EnumMap<>(QuestHelperQuest.class);
+		assertTrue(passes(B, results));
+		assertTrue(passes(A, results));
+	}
+
+	@Test
+	void onlyInitializesVisitedQuests()
+	{
+		QuestHelper a = addQuest(A, List.of(requires(B)));
+		QuestHelper b = addQuest(B, List.of());
+		QuestHelper d = addQuest(D, List.of(), new ExperienceReward(Skill.DEFENCE, 1000));
+
+		assertTrue(passes(A, new EnumMap<>(QuestHelperQuest.class)));
+		assertEquals(List.of(A, B), requestedQuests);
+		verify(a).initializeRequirements();
+		verify(b).initializeRequirements();
+		verify(d, never()).initializeRequirements();
+	}
+
+	@Test
+	void reusesResultsAndRequirements()
+	{
+		addQuest(A, List.of(requires(B)));
+		addQuest(B, List.of());
+		addQuest(C, List.of(requires(B)));
+
+		Map<QuestHelperQuest, Boolean> results = new EnumMap<>(QuestHelperQuest.class);
+		assertTrue(passes(A, results));
+		assertTrue(passes(C, results));
+		assertTrue(passes(A, new EnumMap<>(QuestHelperQuest.class)));
+		assertEquals(List.of(A, B, C), requestedQuests);
+		assertEquals(Map.of(A, true, B, true, C, true), results);
+	}
+
+	@Test
+	void helperWithoutQuestUsesItsOwnRequirements()
+	{
+		addQuest(B, List.of(), new ExperienceReward(Skill.DEFENCE, 1000));
+		addQuest(C, List.of());
+
+		QuestHelper requiresFailing = addQuest(null, List.of(requires(B)));
+		QuestHelper requiresPassing = addQuest(null, List.of(requires(C)));
+		QuestHelper rewardsDefence = addQuest(null, List.of(), new ExperienceReward(Skill.DEFENCE, 1000));
+
+		Map<QuestHelperQuest, Boolean> results = new EnumMap<>(QuestHelperQuest.class);
+		assertFalse(graph.passesSkillFilter(requiresFailing, DEFENCE, results));
+		assertTrue(graph.passesSkillFilter(requiresPassing, DEFENCE, results));
+		assertFalse(graph.passesSkillFilter(rewardsDefence, DEFENCE, results));
+		assertTrue(QuestPrerequisiteGraph.questPassesSkillFilter(requiresFailing, DEFENCE));
+		assertFalse(QuestPrerequisiteGraph.questPassesSkillFilter(rewardsDefence, DEFENCE));
+	}
+}
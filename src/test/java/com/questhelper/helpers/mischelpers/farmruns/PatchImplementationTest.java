@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, pajlada <https://github.com/pajlada>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.helpers.mischelpers.farmruns;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PatchImplementationTest
+{
+	@Test
+	public void testLookupTablesMatchComputedStates()
+	{
+		for (PatchImplementation implementation : PatchImplementation.values())
+		{
+			for (int value = 0; value <= PatchImplementation.MAX_VARBIT_VALUE; value++)
+			{
+				assertEquals(implementation.computeState(value), implementation.forVarbitValue(value),
+					implementation + " with varbit value " + value);
+			}
+		}
+	}
+
+	@Test
+	public void testLookupsDoNotAllocate()
+	{
+		for (PatchImplementation implementation : PatchImplementation.values())
+		{
+			for (int value = 0; value <= PatchImplementation.MAX_VARBIT_VALUE; value++)
+			{
+				assertSame(implementation.forVarbitValue(value), implementation.forVarbitValue(value));
+			}
+		}
+	}
+
+	@Test
+	public void testOutOfRangeValues()
+	{
+		assertNull(PatchImplementation.HERB.forVarbitValue(-1));
+		assertEquals(PatchImplementation.HERB.computeState(PatchImplementation.MAX_VARBIT_VALUE + 1),
+			PatchImplementation.HERB.forVarbitValue(PatchImplementation.MAX_VARBIT_VALUE + 1));
+	}
+}
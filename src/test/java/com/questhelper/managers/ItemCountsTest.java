@@ -0,0 +1,72 @@
+package com.questhelper.managers;
+
+import net.runelite.api.Item;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ItemCountsTest
+{
+	@Test
+	void sumsStacksOfTheSameItem()
+	{
+		var counts = new ItemCounts(new Item[]{
+			new Item(995, 100),
+			new Item(1511, 1),
+			new Item(995, 50),
+			new Item(1511, 1),
+			new Item(1511, 1),
+		});
+
+		assertEquals(150, counts.getQuantity(995));
+		assertEquals(2, counts.getStacks(995));
+		assertEquals(3, counts.getQuantity(1511));
+		assertEquals(3, counts.getStacks(1511));
+	}
+
+	@Test
+	void ignoresNullAndEmptySlots()
+	{
+		var counts = new ItemCounts(new Item[]{
+			null,
+			new Item(-1, 0),
+			new Item(590, 1),
+			null,
+		});
+
+		assertEquals(1, counts.getQuantity(590));
+		assertEquals(1, counts.getStacks(590));
+		assertEquals(0, counts.getQuantity(-1));
+		assertEquals(0, counts.getStacks(-1));
+	}
+
+	@Test
+	void missingItemsHaveNoCount()
+	{
+		var counts = new ItemCounts(new Item[]{new Item(590, 1)});
+
+		assertEquals(0, counts.getQuantity(591));
+		assertEquals(0, counts.getStacks(591));
+		assertEquals(0, ItemCounts.EMPTY.getQuantity(590));
+		assertEquals(0, ItemCounts.EMPTY.getStacks(590));
+	}
+
+	@Test
+	void countsAFullBank()
+	{
+		// Enough distinct items that some lookups have to probe past collisions in the table
+		Item[] items = new Item[1500];
+		for (int i = 0; i < items.length; i++)
+		{
+			items[i] = new Item(i * 7, i + 1);
+		}
+		var counts = new ItemCounts(items);
+
+		for (int i = 0; i < items.length; i++)
+		{
+			assertEquals(i + 1, counts.getQuantity(i * 7), "item " + i * 7);
+			assertEquals(1, counts.getStacks(i * 7), "item " + i * 7);
+			assertEquals(0, counts.getQuantity(i * 7 + 1), "item " + (i * 7 + 1));
+		}
+	}
+}
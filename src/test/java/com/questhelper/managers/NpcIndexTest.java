@@ -0,0 +1,149 @@
+package com.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.WorldView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NpcIndexTest
+{
+	@BeforeEach
+	@AfterEach
+	void clearIndex()
+	{
+		NpcIndex.clear();
+	}
+
+	private static NPC mockNpc(int id, int compositionId, boolean transforms)
+	{
+		NPCComposition composition = mock(NPCComposition.class);
+		when(composition.getId()).thenReturn(compositionId);
+		when(composition.getConfigs()).thenReturn(transforms ? new int[]{compositionId, id} : null);
+
+		NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(id);
+		when(npc.getComposition()).thenReturn(composition);
+		return npc;
+	}
+
+	@Test
+	void findsNpcsByCompositionId()
+	{
+		NPC first = mockNpc(100, 100, false);
+		NPC second = mockNpc(100, 100, false);
+		NPC other = mockNpc(200, 200, false);
+		NpcIndex.add(first);
+		NpcIndex.add(second);
+		NpcIndex.add(other);
+
+		assertEquals(List.of(first, second), NpcIndex.getNpcs(100));
+		assertEquals(List.of(other), NpcIndex.getNpcs(200));
+		assertTrue(NpcIndex.getNpcs(300).isEmpty());
+	}
+
+	@Test
+	void addingTwiceIndexesOnce()
+	{
+		NPC npc = mockNpc(100, 100, false);
+		NpcIndex.add(npc);
+		NpcIndex.add(npc);
+		NpcIndex.add(null);
+
+		assertEquals(List.of(npc), NpcIndex.getNpcs(100));
+	}
+
+	@Test
+	void removedNpcsAreNotFound()
+	{
+		NPC first = mockNpc(100, 100, false);
+		NPC second = mockNpc(100, 100, false);
+		NpcIndex.add(first);
+		NpcIndex.add(second);
+
+		NpcIndex.remove(first);
+		assertEquals(List.of(second), NpcIndex.getNpcs(100));
+
+		NpcIndex.remove(second);
+		NpcIndex.remove(second);
+		assertTrue(NpcIndex.getNpcs(100).isEmpty());
+	}
+
+	@Test
+	void npcWithoutCompositionUsesItsId()
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(100);
+		NpcIndex.add(npc);
+
+		assertEquals(List.of(npc), NpcIndex.getNpcs(100));
+	}
+
+	@Test
+	void updateMovesNpcToItsNewComposition()
+	{
+		NPC npc = mockNpc(100, 100, false);
+		NpcIndex.add(npc);
+
+		NPCComposition changed = mock(NPCComposition.class);
+		when(changed.getId()).thenReturn(101);
+		when(npc.getId()).thenReturn(101);
+		when(npc.getComposition()).thenReturn(changed);
+		NpcIndex.update(npc);
+
+		assertTrue(NpcIndex.getNpcs(100).isEmpty());
+		assertEquals(List.of(npc), NpcIndex.getNpcs(101));
+	}
+
+	@Test
+	void transformingNpcsAreFoundByBothIds()
+	{
+		// Transformed by a varbit, so its id differs from its composition's without a change event
+		NPC transformed = mockNpc(101, 100, true);
+		NPC untransformed = mockNpc(100, 100, true);
+		NPC plain = mockNpc(101, 101, false);
+		NpcIndex.add(transformed);
+		NpcIndex.add(untransformed);
+		NpcIndex.add(plain);
+
+		assertEquals(List.of(transformed, untransformed), NpcIndex.getNpcs(100));
+		assertEquals(List.of(plain, transformed), NpcIndex.getNpcs(101));
+
+		NpcIndex.remove(transformed);
+		assertEquals(List.of(plain), NpcIndex.getNpcs(101));
+	}
+
+	@Test
+	void rebuildReplacesContents()
+	{
+		NPC stale = mockNpc(100, 100, false);
+		NpcIndex.add(stale);
+
+		NPC first = mockNpc(100, 100, false);
+		NPC second = mockNpc(200, 200, false);
+
+		@SuppressWarnings("unchecked")
+		IndexedObjectSet<? extends NPC> npcs = (IndexedObjectSet<? extends NPC>) mock(IndexedObjectSet.class);
+		doReturn(List.of(first, second).iterator()).when(npcs).iterator();
+		WorldView worldView = mock(WorldView.class);
+		doReturn(npcs).when(worldView).npcs();
+		Client client = mock(Client.class);
+		when(client.getTopLevelWorldView()).thenReturn(worldView);
+
+		NpcIndex.rebuild(client);
+
+		assertEquals(List.of(first), NpcIndex.getNpcs(100));
+		assertEquals(List.of(second), NpcIndex.getNpcs(200));
+	}
+}
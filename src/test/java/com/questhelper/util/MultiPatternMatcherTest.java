@@ -0,0 +1,116 @@
+package com.questhelper.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultiPatternMatcherTest
+{
+	@Test
+	void overlappingPatterns()
+	{
+		var matcher = new MultiPatternMatcher(List.of(
+			List.of("he"),
+			List.of("she"),
+			List.of("his"),
+			List.of("hers")
+		));
+
+		assertArrayEquals(new boolean[]{true, true, false, true}, matcher.findMatchingOwners("ushers"));
+		assertArrayEquals(new boolean[]{true, false, true, false}, matcher.findMatchingOwners("this hex"));
+		assertArrayEquals(new boolean[]{false, false, false, false}, matcher.findMatchingOwners("nothing"));
+	}
+
+	@Test
+	void suffixMatchedThroughFailureLink()
+	{
+		var matcher = new MultiPatternMatcher(List.of(
+			List.of("abcd"),
+			List.of("bc"),
+			List.of("c")
+		));
+
+		// Falls out of "abcd" after "abc", which only the shorter suffixes "bc" and "c" are matched through
+		assertArrayEquals(new boolean[]{false, true, true}, matcher.findMatchingOwners("abce"));
+		assertArrayEquals(new boolean[]{true, true, true}, matcher.findMatchingOwners("aabcd"));
+	}
+
+	@Test
+	void failureLinkAfterPartialMatch()
+	{
+		var matcher = new MultiPatternMatcher(List.of(
+			List.of("aab")
+		));
+
+		// The first "aa" is a dead end, and the match has to restart from the second "a"
+		assertArrayEquals(new boolean[]{true}, matcher.findMatchingOwners("aaab"));
+		assertArrayEquals(new boolean[]{false}, matcher.findMatchingOwners("abab"));
+	}
+
+	@Test
+	void emptyPatternMatchesEverything()
+	{
+		var matcher = new MultiPatternMatcher(List.of(
+			List.of(""),
+			List.of("x")
+		));
+
+		assertArrayEquals(new boolean[]{true, false}, matcher.findMatchingOwners(""));
+		assertArrayEquals(new boolean[]{true, false}, matcher.findMatchingOwners("abc"));
+		assertArrayEquals(new boolean[]{true, true}, matcher.findMatchingOwners("x"));
+	}
+
+	@Test
+	void nullPatternsAreSkipped()
+	{
+		var matcher = new MultiPatternMatcher(List.of(
+			Collections.singletonList(null),
+			Arrays.asList(null, "null"),
+			Collections.emptyList()
+		));
+
+		assertArrayEquals(new boolean[]{false, false, false}, matcher.findMatchingOwners("text"));
+		assertArrayEquals(new boolean[]{false, true, false}, matcher.findMatchingOwners("not null"));
+	}
+
+	@Test
+	void ownersSharingPattern()
+	{
+		var matcher = new MultiPatternMatcher(List.of(
+			List.of("key", "door"),
+			List.of("key"),
+			List.of("lock")
+		));
+
+		assertArrayEquals(new boolean[]{true, true, false}, matcher.findMatchingOwners("You use the key."));
+		assertArrayEquals(new boolean[]{true, false, false}, matcher.findMatchingOwners("The door opens."));
+	}
+
+	@Test
+	void matchesSameAsContains()
+	{
+		List<List<String>> patternsByOwner = List.of(
+			List.of("ab", "bab"),
+			List.of("abc"),
+			List.of("bca", "c"),
+			List.of("caa"),
+			List.of("aaaa")
+		);
+		var matcher = new MultiPatternMatcher(patternsByOwner);
+
+		for (String text : List.of("", "a", "abab", "abcabc", "bcaa", "cabab", "aaabca", "aaaab", "bbbb"))
+		{
+			boolean[] matches = matcher.findMatchingOwners(text);
+			for (int owner = 0; owner < patternsByOwner.size(); owner++)
+			{
+				boolean expected = patternsByOwner.get(owner).stream().anyMatch(text::contains);
+				assertEquals(expected, matches[owner], "owner " + owner + " in \"" + text + "\"");
+			}
+		}
+	}
+}